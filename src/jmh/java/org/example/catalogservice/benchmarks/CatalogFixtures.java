@@ -0,0 +1,49 @@
+package org.example.catalogservice.benchmarks;
+
+import org.example.catalogservice.dto.Address;
+import org.example.catalogservice.dto.ItemResponse;
+import org.example.catalogservice.models.Item;
+import org.example.catalogservice.models.Restaurant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deterministic catalog data shared by the benchmarks.
+ */
+final class CatalogFixtures {
+    private CatalogFixtures() {}
+
+    static Address address(int buildingNumber) {
+        return new Address(buildingNumber, "MG Road", "Adyar", "Chennai", "Tamil Nadu", "India", "600020");
+    }
+
+    static Restaurant restaurant(long id, int menuSize) {
+        Restaurant restaurant = Restaurant.builder()
+                .id(new UUID(id, 0))
+                .name("restaurant-" + id)
+                .address(address(1))
+                .build();
+        List<Item> items = new ArrayList<>(menuSize);
+        for (int i = 0; i < menuSize; i++) {
+            items.add(Item.builder()
+                    .id(new UUID(id, i + 1))
+                    .name("dish " + i)
+                    .description("A reasonably long description of dish number " + i + " with its ingredients")
+                    .price(100.0 + i)
+                    .restaurant(restaurant)
+                    .build());
+        }
+        restaurant.setItems(items);
+        return restaurant;
+    }
+
+    static List<ItemResponse> menu(int menuSize) {
+        List<ItemResponse> menu = new ArrayList<>(menuSize);
+        for (Item item : restaurant(1, menuSize).getItems()) {
+            menu.add(new ItemResponse(item));
+        }
+        return menu;
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.catalogservice.benchmarks;
+
+import org.example.catalogservice.dto.ItemResponse;
+import org.example.catalogservice.dto.RestaurantResponse;
+import org.example.catalogservice.models.Item;
+import org.example.catalogservice.models.Restaurant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning entities into the response DTOs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+    @Param({"10", "100", "1000"})
+    private int menuSize;
+
+    private Restaurant restaurant;
+    private List<Item> items;
+
+    @Setup
+    public void setup() {
+        restaurant = CatalogFixtures.restaurant(1, menuSize);
+        items = restaurant.getItems();
+    }
+
+    @Benchmark
+    public RestaurantResponse restaurantResponse() {
+        return new RestaurantResponse(restaurant);
+    }
+
+    @Benchmark
+    public List<ItemResponse> menuResponses() {
+        List<ItemResponse> responses = new ArrayList<>(items.size());
+        for (Item item : items) {
+            responses.add(new ItemResponse(item));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public void singleItemResponse(Blackhole blackhole) {
+        blackhole.consume(new ItemResponse(items.get(0)));
+    }
+}
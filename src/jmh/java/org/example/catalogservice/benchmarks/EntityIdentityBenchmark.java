@@ -0,0 +1,101 @@
+package org.example.catalogservice.benchmarks;
+
+import org.example.catalogservice.models.Restaurant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashing, comparing and printing a restaurant must not depend on the size
+ * of its menu; the scores should be flat across {@code menuSize}. Sets of
+ * many restaurants must not collapse into one hash bucket; building and
+ * probing them should scale with {@code entities}, not its square.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EntityIdentityBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class OneRestaurant {
+        @Param({"10", "1000"})
+        private int menuSize;
+
+        private Restaurant restaurant;
+        private Restaurant sameRow;
+
+        @Setup
+        public void setup() {
+            restaurant = CatalogFixtures.restaurant(1, menuSize);
+            sameRow = CatalogFixtures.restaurant(1, menuSize);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ManyRestaurants {
+        @Param({"1000", "10000"})
+        private int entities;
+
+        private List<Restaurant> restaurants;
+        private Set<Restaurant> indexed;
+        private Restaurant sameRowAsLast;
+
+        @Setup
+        public void setup() {
+            // Ids drawn by the builder, as in production, rather than the fixtures' sequential ones.
+            restaurants = new ArrayList<>(entities);
+            for (int i = 0; i < entities; i++) {
+                restaurants.add(Restaurant.builder()
+                        .name("restaurant-" + i)
+                        .address(CatalogFixtures.address(i))
+                        .build());
+            }
+            indexed = new HashSet<>(restaurants);
+            Restaurant last = restaurants.get(entities - 1);
+            sameRowAsLast = Restaurant.builder().id(last.getId()).name(last.getName()).build();
+        }
+    }
+
+    @Benchmark
+    public int hashCodeOfRestaurant(OneRestaurant state) {
+        return state.restaurant.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsSameRow(OneRestaurant state) {
+        return state.restaurant.equals(state.sameRow);
+    }
+
+    @Benchmark
+    public String toStringOfRestaurant(OneRestaurant state) {
+        return state.restaurant.toString();
+    }
+
+    @Benchmark
+    public Set<Restaurant> addToHashSet(OneRestaurant state) {
+        Set<Restaurant> restaurants = new HashSet<>();
+        restaurants.add(state.restaurant);
+        restaurants.add(state.sameRow);
+        return restaurants;
+    }
+
+    @Benchmark
+    public Set<Restaurant> buildHashSet(ManyRestaurants state) {
+        return new HashSet<>(state.restaurants);
+    }
+
+    @Benchmark
+    public boolean containsSameRow(ManyRestaurants state) {
+        return state.indexed.contains(state.sameRowAsLast);
+    }
+}
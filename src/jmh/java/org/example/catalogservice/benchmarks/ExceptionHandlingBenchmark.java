@@ -0,0 +1,58 @@
+package org.example.catalogservice.benchmarks;
+
+import org.example.catalogservice.dto.ItemRequest;
+import org.example.catalogservice.exceptions.GlobalExceptionHandler;
+import org.example.catalogservice.exceptions.RestaurantNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error paths through GlobalExceptionHandler, including the cost of
+ * creating the exception (and its stack trace) in the first place.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExceptionHandlingBenchmark {
+    private GlobalExceptionHandler handler;
+    private MethodArgumentNotValidException validationException;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler();
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new ItemRequest(), "itemRequest");
+        bindingResult.addError(new FieldError("itemRequest", "price", "Price must be at least 100 rupees"));
+        bindingResult.addError(new FieldError("itemRequest", "name", "must not be null"));
+        MethodParameter parameter = new MethodParameter(
+                ExceptionHandlingBenchmark.class.getDeclaredMethod("setup"), -1);
+        validationException = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<String> restaurantNotFound() {
+        try {
+            throw new RestaurantNotFoundException("Restaurant not found");
+        } catch (RestaurantNotFoundException e) {
+            return handler.handleRestaurantNotFoundException();
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, List<String>>> validationErrors() {
+        return handler.handleMethodArgumentNotValidException(validationException);
+    }
+}
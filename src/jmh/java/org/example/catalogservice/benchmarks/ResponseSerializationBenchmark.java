@@ -0,0 +1,65 @@
+package org.example.catalogservice.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.catalogservice.dto.ApiResponse;
+import org.example.catalogservice.dto.ItemResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.catalogservice.constants.Constants.FETCHED;
+
+/**
+ * Full menu response serialization as the controllers do it: building the
+ * ApiResponse wrapper and writing it with a Boot-configured ObjectMapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+    @Param({"10", "100", "1000"})
+    private int menuSize;
+
+    private ObjectMapper objectMapper;
+    private List<ItemResponse> menu;
+    private ApiResponse prebuilt;
+
+    @Setup
+    public void setup() {
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        menu = CatalogFixtures.menu(menuSize);
+        prebuilt = wrap(menu);
+    }
+
+    @Benchmark
+    public byte[] buildAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(wrap(menu));
+    }
+
+    @Benchmark
+    public byte[] serializeOnly() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(prebuilt);
+    }
+
+    private static ApiResponse wrap(List<ItemResponse> menu) {
+        return ApiResponse.builder()
+                .message(FETCHED)
+                .status(HttpStatus.OK)
+                .data(Map.of("items", menu))
+                .build();
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.catalogservice.benchmarks;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletContext;
+import org.example.catalogservice.CatalogServiceApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of Spring Security's filter chain for one authenticated GET, with
+ * the controller replaced by a no-op so only authentication and
+ * authorization are measured.
+ * <p>
+ * {@code session} is the default form-login chain with an already logged-in
+ * session; the servlet container's session lookup and the session store
+ * itself are not included. {@code stateless} verifies an RS256 bearer token
+ * on every request against a local key, which is what the cached JWK set
+ * amounts to once warm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SecurityFilterChainBenchmark {
+    private static final FilterChain CONTROLLER = (request, response) -> {
+    };
+
+    @Param({"session", "stateless"})
+    private String mode;
+
+    private ConfigurableApplicationContext context;
+    private Filter securityFilterChain;
+    private ServletContext servletContext;
+    private MockHttpSession session;
+    private String bearerToken;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        RSAKey key = new RSAKey.Builder(publicKey)
+                .privateKey((RSAPrivateKey) keyPair.getPrivate())
+                .keyID("benchmark")
+                .build();
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(CatalogServiceApplication.class)
+                .properties("server.port=0");
+        if (mode.equals("stateless")) {
+            builder.profiles("test", "stateless")
+                    .initializers(ctx -> ctx.getBeanFactory().registerSingleton("jwtDecoder",
+                            NimbusJwtDecoder.withPublicKey(publicKey).build()));
+        } else {
+            builder.profiles("test");
+        }
+        // Profile properties outrank builder defaults, so these go in as arguments.
+        context = builder.run("--spring.h2.console.enabled=false",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark-security-" + mode);
+        securityFilterChain = context.getBean("springSecurityFilterChain", Filter.class);
+        // The actuator chain's matchers find the application context through the request's servlet context.
+        servletContext = ((WebApplicationContext) context).getServletContext();
+
+        session = new MockHttpSession();
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(
+                        "admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN"))));
+
+        Instant now = Instant.now();
+        bearerToken = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(key)))
+                .encode(JwtEncoderParameters.from(
+                        JwsHeader.with(SignatureAlgorithm.RS256).keyId("benchmark").build(),
+                        JwtClaimsSet.builder()
+                                .subject("order-service")
+                                .issuedAt(now)
+                                .expiresAt(now.plus(1, ChronoUnit.DAYS))
+                                .build()))
+                .getTokenValue();
+
+        // Measuring a rejection, or a chain that lets everything through, would say nothing about authentication.
+        int status = authenticatedGet().getStatus();
+        if (status != HttpStatus.OK.value()) {
+            throw new IllegalStateException(mode + " request was not authenticated: " + status);
+        }
+        MockHttpServletResponse anonymous = new MockHttpServletResponse();
+        securityFilterChain.doFilter(restaurantRequest(), anonymous, CONTROLLER);
+        if (anonymous.getStatus() == HttpStatus.OK.value()) {
+            throw new IllegalStateException(mode + " chain let an anonymous request through");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticatedGet() throws Exception {
+        MockHttpServletRequest request = restaurantRequest();
+        if (mode.equals("stateless")) {
+            request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + bearerToken);
+        } else {
+            request.setSession(session);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        securityFilterChain.doFilter(request, response, CONTROLLER);
+        return response;
+    }
+
+    private MockHttpServletRequest restaurantRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", "/restaurants/benchmark");
+        request.setServletPath("/restaurants/benchmark");
+        return request;
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.catalogservice.benchmarks;
+
+import org.example.catalogservice.CatalogServiceApplication;
+import org.example.catalogservice.dto.ApiResponse;
+import org.example.catalogservice.models.Item;
+import org.example.catalogservice.models.Restaurant;
+import org.example.catalogservice.repositories.ItemsRepository;
+import org.example.catalogservice.repositories.RestaurantsRepository;
+import org.example.catalogservice.services.ItemsService;
+import org.example.catalogservice.services.RestaurantsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service calls end to end against in-memory H2, bypassing the HTTP layer
+ * and the response cache so the query and mapping cost is what is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceBenchmark {
+    @Param({"10", "100", "1000"})
+    private int menuSize;
+
+    private ConfigurableApplicationContext context;
+    private ItemsService itemsService;
+    private RestaurantsService restaurantsService;
+    private UUID restaurantId;
+    private UUID itemId;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(CatalogServiceApplication.class)
+                .profiles("test")
+                .properties("server.port=0")
+                // Profile properties outrank builder defaults, so these go in as arguments.
+                .run("--spring.h2.console.enabled=false", "--spring.datasource.url=jdbc:h2:mem:benchmark-" + menuSize);
+        itemsService = context.getBean(ItemsService.class);
+        restaurantsService = context.getBean(RestaurantsService.class);
+
+        Restaurant restaurant = context.getBean(RestaurantsRepository.class).save(Restaurant.builder()
+                .name("benchmark")
+                .address(CatalogFixtures.address(1))
+                .build());
+        List<Item> items = new ArrayList<>(menuSize);
+        for (int i = 0; i < menuSize; i++) {
+            items.add(Item.builder()
+                    .name("dish " + i)
+                    .description("A reasonably long description of dish number " + i)
+                    .price(100.0 + i)
+                    .restaurant(restaurant)
+                    .build());
+        }
+        context.getBean(ItemsRepository.class).saveAll(items);
+        restaurantId = restaurant.getId();
+        itemId = items.get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse> fetchMenu() {
+        return itemsService.fetchAll(restaurantId);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse> fetchItemById() {
+        return itemsService.fetchById(itemId);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse> fetchRestaurantById() {
+        return restaurantsService.fetchById(restaurantId);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse> fetchRestaurantsFirstPage() {
+        return restaurantsService.fetchAll(null, null);
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.catalogservice.benchmarks;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.example.catalogservice.dto.ApiResponse;
+import org.example.catalogservice.dto.ItemResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.catalogservice.constants.Constants.FETCHED;
+
+/**
+ * Menu responses in each wire format: encoding from DTOs, decoding into the
+ * DTOs a Feign client would use, and the JSON-to-binary transcode the
+ * response cache does once per version.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WireFormatBenchmark {
+    @Param({"10", "100", "1000"})
+    private int menuSize;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper mapper;
+    private ApiResponse response;
+    private byte[] json;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() throws IOException {
+        jsonMapper = newMapper(new ObjectMapper());
+        mapper = switch (format) {
+            case "cbor" -> newMapper(new ObjectMapper(new CBORFactory()));
+            case "smile" -> newMapper(new ObjectMapper(new SmileFactory()));
+            default -> jsonMapper;
+        };
+        response = ApiResponse.builder()
+                .message(FETCHED)
+                .status(HttpStatus.OK)
+                .data(Map.of("items", CatalogFixtures.menu(menuSize)))
+                .build();
+        json = jsonMapper.writeValueAsBytes(response);
+        encoded = mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public MenuPayload decode() throws IOException {
+        return mapper.readValue(encoded, MenuPayload.class);
+    }
+
+    @Benchmark
+    public byte[] transcodeFromJson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+        try (JsonParser parser = jsonMapper.getFactory().createParser(json);
+             JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+            while (parser.nextToken() != null) {
+                generator.copyCurrentEvent(parser);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static ObjectMapper newMapper(ObjectMapper mapper) {
+        return mapper.findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    /**
+     * What a calling service deserializes a menu response into.
+     */
+    public static class MenuPayload {
+        public String message;
+        public HttpStatus status;
+        public LocalDate timestamp;
+        public Map<String, List<ItemResponse>> data;
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.catalogservice.loadtest;
+
+import org.example.catalogservice.dto.Address;
+import org.example.catalogservice.models.Item;
+import org.example.catalogservice.models.Restaurant;
+import org.example.catalogservice.repositories.ItemsRepository;
+import org.example.catalogservice.repositories.RestaurantsRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Seeds a catalog of {@code restaurants × itemsPerRestaurant} rows straight
+ * through the repositories, and remembers the ids for the traffic mix.
+ */
+final class CatalogSeeder {
+    private CatalogSeeder() {}
+
+    record SeededCatalog(List<UUID> restaurantIds, List<UUID> itemIds) {}
+
+    static SeededCatalog seed(CatalogServer server, int restaurants, int itemsPerRestaurant) {
+        RestaurantsRepository restaurantsRepository = server.bean(RestaurantsRepository.class);
+        ItemsRepository itemsRepository = server.bean(ItemsRepository.class);
+
+        List<UUID> restaurantIds = new ArrayList<>(restaurants);
+        List<UUID> itemIds = new ArrayList<>(restaurants * itemsPerRestaurant);
+        for (int r = 0; r < restaurants; r++) {
+            Restaurant restaurant = restaurantsRepository.save(Restaurant.builder()
+                    .name("restaurant-" + r)
+                    .address(new Address(r + 1, "street", "locality", "city", "state", "country", "600001"))
+                    .build());
+            List<Item> items = new ArrayList<>(itemsPerRestaurant);
+            for (int i = 0; i < itemsPerRestaurant; i++) {
+                items.add(Item.builder()
+                        .name("dish-" + i)
+                        .description("seeded dish " + i)
+                        .price(100.0 + i)
+                        .restaurant(restaurant)
+                        .build());
+            }
+            itemsRepository.saveAll(items);
+            restaurantIds.add(restaurant.getId());
+            items.forEach(item -> itemIds.add(item.getId()));
+        }
+        return new SeededCatalog(restaurantIds, itemIds);
+    }
+}
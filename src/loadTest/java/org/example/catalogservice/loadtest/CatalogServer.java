@@ -0,0 +1,94 @@
+package org.example.catalogservice.loadtest;
+
+import org.example.catalogservice.CatalogServiceApplication;
+import org.example.catalogservice.reactive.ReactiveCatalogLauncher;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.net.URI;
+
+/**
+ * The catalog service booted on a random port, against in-memory H2 or an
+ * embedded Postgres.
+ */
+final class CatalogServer implements AutoCloseable {
+    // Embedded Postgres trusts local connections, so the user needs no password.
+    private static final String USER = "postgres";
+    private static final String DATABASE = "postgres";
+
+    private final ConfigurableApplicationContext context;
+
+    private CatalogServer(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    static CatalogServer start(String... extraProfiles) {
+        return new CatalogServer(run(extraProfiles));
+    }
+
+    /**
+     * Boots against {@code postgres}, schema from the Liquibase changelog, so
+     * queries and pool contention match production rather than H2. The
+     * {@code test} profile is still active (it turns off Eureka); its H2
+     * settings are overridden as command-line arguments, which outrank it.
+     * Every profile gets the pool size the virtual-threads profile ships with,
+     * so runs in different profiles compare threading models, not pools.
+     */
+    static CatalogServer startOnPostgres(EmbeddedPostgres postgres, String... extraProfiles) {
+        String r2dbcUrl = "r2dbc:postgresql://localhost:" + postgres.getPort() + "/" + DATABASE;
+        return new CatalogServer(run(extraProfiles,
+                "--spring.datasource.url=" + postgres.getJdbcUrl(USER, DATABASE),
+                "--spring.datasource.driverClassName=org.postgresql.Driver",
+                "--spring.datasource.username=" + USER,
+                "--spring.datasource.password=",
+                "--spring.datasource.hikari.maximum-pool-size=20",
+                "--spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--spring.liquibase.enabled=true",
+                "--spring.flyway.enabled=false",
+                "--catalog.reactive.port=0",
+                "--catalog.reactive.r2dbc.url=" + r2dbcUrl,
+                "--catalog.reactive.r2dbc.username=" + USER,
+                "--catalog.reactive.r2dbc.password="));
+    }
+
+    private static ConfigurableApplicationContext run(String[] extraProfiles, String... args) {
+        String[] profiles = new String[extraProfiles.length + 1];
+        profiles[0] = "test";
+        System.arraycopy(extraProfiles, 0, profiles, 1, extraProfiles.length);
+
+        // The test profile turns the H2 console on, which outranks builder defaults.
+        String[] commandLine = new String[args.length + 1];
+        commandLine[0] = "--spring.h2.console.enabled=false";
+        System.arraycopy(args, 0, commandLine, 1, args.length);
+
+        return new SpringApplicationBuilder(CatalogServiceApplication.class, LoadTestSecurityConfig.class)
+                .profiles(profiles)
+                .properties("server.port=0")
+                .run(commandLine);
+    }
+
+    URI baseUri() {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return URI.create("http://localhost:" + port);
+    }
+
+    /**
+     * The reactive application's own server, started under the
+     * {@code reactive} profile.
+     */
+    URI reactiveBaseUri() {
+        return URI.create("http://localhost:" + context.getBean(ReactiveCatalogLauncher.class).port());
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
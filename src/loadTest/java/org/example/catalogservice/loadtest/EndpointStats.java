@@ -0,0 +1,60 @@
+package org.example.catalogservice.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and outcome counters for one endpoint. Latencies are in
+ * microseconds and measured from the intended send time, so a stalled server
+ * shows up in the tail instead of silently lowering the offered load.
+ */
+final class EndpointStats {
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final String name;
+    private final Histogram latencies = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    void record(long intendedStartNanos, boolean success) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+        latencies.recordValue(Math.min(micros, MAX_TRACKABLE_MICROS));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    String name() {
+        return name;
+    }
+
+    long count() {
+        return latencies.getTotalCount();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    double percentileMillis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    String format(Duration duration) {
+        return String.format("%-36s %9d %7d %10.1f %9.2f %9.2f %9.2f",
+                name, count(), errors(), count() / (double) duration.toSeconds(),
+                percentileMillis(50), percentileMillis(99), percentileMillis(99.9));
+    }
+
+    static String header() {
+        return String.format("%-36s %9s %7s %10s %9s %9s %9s",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms");
+    }
+}
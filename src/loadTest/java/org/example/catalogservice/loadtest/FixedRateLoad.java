@@ -0,0 +1,74 @@
+package org.example.catalogservice.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+/**
+ * Open-model load generator: every endpoint gets its own pacer thread that
+ * issues requests at a fixed rate regardless of how fast responses come back,
+ * each request running on its own virtual thread.
+ */
+final class FixedRateLoad {
+    record Endpoint(EndpointStats stats, double ratePerSecond, LongFunction<HttpRequest> requests) {}
+
+    private final HttpClient http;
+    private final List<Endpoint> endpoints = new ArrayList<>();
+
+    FixedRateLoad(HttpClient http) {
+        this.http = http;
+    }
+
+    FixedRateLoad add(String name, double ratePerSecond, LongFunction<HttpRequest> requests) {
+        endpoints.add(new Endpoint(new EndpointStats(name), ratePerSecond, requests));
+        return this;
+    }
+
+    List<EndpointStats> run(Duration duration) throws InterruptedException {
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Thread> pacers = new ArrayList<>(endpoints.size());
+            for (Endpoint endpoint : endpoints) {
+                pacers.add(Thread.ofPlatform().name("pacer-" + endpoint.stats().name())
+                        .start(() -> pace(endpoint, start, end, requests)));
+            }
+            for (Thread pacer : pacers) {
+                pacer.join();
+            }
+        }
+        return endpoints.stream().map(Endpoint::stats).toList();
+    }
+
+    private void pace(Endpoint endpoint, long start, long end, ExecutorService requests) {
+        long intervalNanos = (long) (1_000_000_000L / endpoint.ratePerSecond());
+        for (long n = 0; ; n++) {
+            long intended = start + n * intervalNanos;
+            if (intended >= end) {
+                return;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            HttpRequest request = endpoint.requests().apply(n);
+            requests.submit(() -> send(endpoint.stats(), request, intended));
+        }
+    }
+
+    private void send(EndpointStats stats, HttpRequest request, long intended) {
+        try {
+            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+            stats.record(intended, response.statusCode() < 400);
+        } catch (Exception e) {
+            stats.record(intended, false);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.catalogservice.loadtest;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * Opens the catalog endpoints to the load generator so results measure the
+ * service rather than the form-login round trips.
+ */
+@Configuration
+public class LoadTestSecurityConfig {
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public SecurityFilterChain loadTestFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/restaurants/**", "/items/**", "/catalog/**")
+                .csrf(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(authorize -> authorize.anyRequest().permitAll());
+        return http.build();
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.catalogservice.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+/**
+ * Seeds a catalog and drives a fixed-rate mix of reads and writes against
+ * every catalog endpoint, reporting throughput and p50/p99/p99.9 latency per
+ * endpoint. Tune with -Dloadtest.restaurants, -Dloadtest.items,
+ * -Dloadtest.readRate, -Dloadtest.writeRate and -Dloadtest.seconds; set
+ * -Dloadtest.maxP99Millis to fail the run when any endpoint's p99 exceeds it.
+ */
+class MixedTrafficLoadTest {
+    private static final int RESTAURANTS = Integer.getInteger("loadtest.restaurants", 200);
+    private static final int ITEMS = Integer.getInteger("loadtest.items", 20);
+    private static final double READ_RATE = Double.parseDouble(System.getProperty("loadtest.readRate", "200"));
+    private static final double WRITE_RATE = Double.parseDouble(System.getProperty("loadtest.writeRate", "20"));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.seconds", 30));
+    private static final String MAX_P99_MILLIS = System.getProperty("loadtest.maxP99Millis");
+
+    @Test
+    void mixedReadWriteTraffic() throws Exception {
+        try (CatalogServer server = CatalogServer.start();
+             ExecutorService io = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(io).build()) {
+            CatalogSeeder.SeededCatalog catalog = CatalogSeeder.seed(server, RESTAURANTS, ITEMS);
+            URI base = server.baseUri();
+            List<UUID> restaurants = catalog.restaurantIds();
+            List<UUID> items = catalog.itemIds();
+
+            List<EndpointStats> results = new FixedRateLoad(http)
+                    .add("GET /restaurants", READ_RATE,
+                            n -> get(base.resolve("/restaurants?size=20")))
+                    .add("GET /restaurants/{id}", READ_RATE,
+                            n -> get(base.resolve("/restaurants/" + pick(restaurants, n))))
+                    .add("GET /restaurants/{id}/items", READ_RATE,
+                            n -> get(base.resolve("/restaurants/" + pick(restaurants, n) + "/items")))
+                    .add("GET /restaurants/{id}/items/{itemId}", READ_RATE,
+                            n -> get(base.resolve("/restaurants/" + restaurants.get((int) (n % items.size()) / ITEMS)
+                                    + "/items/" + pick(items, n))))
+                    .add("POST /restaurants/{id}/items", WRITE_RATE,
+                            n -> post(base.resolve("/restaurants/" + pick(restaurants, n) + "/items"),
+                                    "{\"name\":\"load-" + n + "\",\"price\":150}"))
+                    .run(DURATION);
+
+            System.out.println(EndpointStats.header());
+            results.forEach(stats -> System.out.println(stats.format(DURATION)));
+
+            assertSoftly(softly -> {
+                for (EndpointStats stats : results) {
+                    softly.assertThat(stats.errors()).as(stats.name() + " errors").isZero();
+                    if (MAX_P99_MILLIS != null) {
+                        softly.assertThat(stats.percentileMillis(99)).as(stats.name() + " p99")
+                                .isLessThanOrEqualTo(Double.parseDouble(MAX_P99_MILLIS));
+                    }
+                }
+            });
+            assertThat(results).allSatisfy(stats -> assertThat(stats.count()).isPositive());
+        }
+    }
+
+    private static UUID pick(List<UUID> ids, long n) {
+        return ids.get((int) (n % ids.size()));
+    }
+
+    private static HttpRequest get(URI uri) {
+        return HttpRequest.newBuilder(uri).GET().build();
+    }
+
+    private static HttpRequest post(URI uri, String json) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
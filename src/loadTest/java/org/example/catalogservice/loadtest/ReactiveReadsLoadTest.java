@@ -0,0 +1,98 @@
+package org.example.catalogservice.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+/**
+ * Drives the same fixed-rate read load at the blocking (JPA, Tomcat) and
+ * reactive (R2DBC, WebFlux on Netty) restaurant and menu endpoints of one
+ * server in the {@code reactive} profile, against an embedded Postgres, and
+ * prints throughput and latency side by side. The blocking reads go through
+ * the response cache, so this measures what a client sees per endpoint rather
+ * than R2DBC against JDBC. The reactive application keeps its own security,
+ * so those requests carry HTTP Basic credentials; the blocking ones are
+ * opened by {@link LoadTestSecurityConfig}. Tune with -Dloadtest.restaurants,
+ * -Dloadtest.items, -Dloadtest.readRate and -Dloadtest.seconds.
+ */
+class ReactiveReadsLoadTest {
+    private static final int RESTAURANTS = Integer.getInteger("loadtest.restaurants", 200);
+    private static final int ITEMS = Integer.getInteger("loadtest.items", 20);
+    private static final double READ_RATE = Double.parseDouble(System.getProperty("loadtest.readRate", "200"));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.seconds", 30));
+
+    private static final String BASIC_CREDENTIALS = "Basic " + Base64.getEncoder()
+            .encodeToString("admin:password".getBytes(StandardCharsets.UTF_8));
+
+    private static EmbeddedPostgres postgres;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void blockingAndReactiveReads() throws Exception {
+        try (CatalogServer server = CatalogServer.startOnPostgres(postgres, "reactive");
+             ExecutorService io = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(io).build()) {
+            List<UUID> restaurants = CatalogSeeder.seed(server, RESTAURANTS, ITEMS).restaurantIds();
+            URI base = server.baseUri();
+            URI reactiveBase = server.reactiveBaseUri();
+
+            List<EndpointStats> results = new FixedRateLoad(http)
+                    .add("GET /restaurants/{id}", READ_RATE,
+                            n -> get(base.resolve("/restaurants/" + pick(restaurants, n))))
+                    .add("GET /reactive/restaurants/{id}", READ_RATE,
+                            n -> authenticated(reactiveBase.resolve("/reactive/restaurants/" + pick(restaurants, n))))
+                    .add("GET /restaurants/{id}/items", READ_RATE,
+                            n -> get(base.resolve("/restaurants/" + pick(restaurants, n) + "/items")))
+                    .add("GET /reactive/restaurants/{id}/items", READ_RATE,
+                            n -> authenticated(reactiveBase.resolve("/reactive/restaurants/" + pick(restaurants, n) + "/items")))
+                    .run(DURATION);
+
+            System.out.println(EndpointStats.header());
+            results.forEach(stats -> System.out.println(stats.format(DURATION)));
+
+            assertSoftly(softly -> {
+                for (EndpointStats stats : results) {
+                    softly.assertThat(stats.errors()).as(stats.name() + " errors").isZero();
+                }
+            });
+            assertThat(results).allSatisfy(stats -> assertThat(stats.count()).isPositive());
+        }
+    }
+
+    private static UUID pick(List<UUID> ids, long n) {
+        return ids.get((int) (n % ids.size()));
+    }
+
+    private static HttpRequest get(URI uri) {
+        return HttpRequest.newBuilder(uri).GET().build();
+    }
+
+    private static HttpRequest authenticated(URI uri) {
+        return HttpRequest.newBuilder(uri).header("Authorization", BASIC_CREDENTIALS).GET().build();
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.catalogservice.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.example.catalogservice.services.ItemsService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.example.catalogservice.constants.Constants.DEFAULT_PAGE_SIZE;
+import static org.example.catalogservice.constants.Constants.MAX_SEARCH_RESULTS;
+
+/**
+ * Fixed-rate item search against an embedded Postgres, so the GIN-indexed
+ * tsquery path is measured rather than skipped as it is on H2. Each query
+ * shape gets its own row, from a selective full word down to the shortest
+ * input users type, plus the last page of a broad query, reached by its
+ * cursor. Tune with -Dloadtest.restaurants,
+ * -Dloadtest.items, -Dloadtest.readRate and -Dloadtest.seconds; set
+ * -Dloadtest.maxP99Millis to fail the run when any shape's p99 exceeds it.
+ */
+class SearchLoadTest {
+    private static final int RESTAURANTS = Integer.getInteger("loadtest.restaurants", 1000);
+    private static final int ITEMS = Integer.getInteger("loadtest.items", 20);
+    private static final double READ_RATE = Double.parseDouble(System.getProperty("loadtest.readRate", "100"));
+    // Only MAX_SEARCH_RESULTS matches are ranked, so the last page of a broad query is this many pages in.
+    private static final int SEARCH_DEPTH = MAX_SEARCH_RESULTS / DEFAULT_PAGE_SIZE - 1;
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.seconds", 30));
+    private static final String MAX_P99_MILLIS = System.getProperty("loadtest.maxP99Millis");
+
+    private static EmbeddedPostgres postgres;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void searchLatencyByQueryShape() throws Exception {
+        try (CatalogServer server = CatalogServer.startOnPostgres(postgres);
+             ExecutorService io = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(io).build()) {
+            CatalogSeeder.seed(server, RESTAURANTS, ITEMS);
+            URI base = server.baseUri();
+            String deepCursor = cursorAfter(server, "di", SEARCH_DEPTH);
+
+            List<EndpointStats> results = new FixedRateLoad(http)
+                    .add("search: full word", READ_RATE, n -> search(base, "dish " + (n % ITEMS)))
+                    .add("search: two-letter prefix", READ_RATE, n -> search(base, "di"))
+                    .add("search: one letter", READ_RATE, n -> search(base, "d"))
+                    .add("search: multi-word prefix", READ_RATE, n -> search(base, "seeded di"))
+                    .add("search: last page by cursor", READ_RATE, n -> search(base, "di", deepCursor))
+                    .run(DURATION);
+
+            System.out.println(EndpointStats.header());
+            results.forEach(stats -> System.out.println(stats.format(DURATION)));
+
+            assertSoftly(softly -> {
+                for (EndpointStats stats : results) {
+                    softly.assertThat(stats.errors()).as(stats.name() + " errors").isZero();
+                    if (MAX_P99_MILLIS != null) {
+                        softly.assertThat(stats.percentileMillis(99)).as(stats.name() + " p99")
+                                .isLessThanOrEqualTo(Double.parseDouble(MAX_P99_MILLIS));
+                    }
+                }
+            });
+            assertThat(results).allSatisfy(stats -> assertThat(stats.count()).isPositive());
+        }
+    }
+
+    private static HttpRequest search(URI base, String query) {
+        return HttpRequest.newBuilder(base.resolve("/items/search?q=" + URLEncoder.encode(query, StandardCharsets.UTF_8)))
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest search(URI base, String query, String cursor) {
+        return HttpRequest.newBuilder(base.resolve("/items/search?q=" + URLEncoder.encode(query, StandardCharsets.UTF_8)
+                        + "&cursor=" + cursor))
+                .GET()
+                .build();
+    }
+
+    private static String cursorAfter(CatalogServer server, String query, int pages) {
+        ItemsService itemsService = server.bean(ItemsService.class);
+        String cursor = null;
+        for (int page = 0; page < pages; page++) {
+            cursor = (String) Objects.requireNonNull(itemsService.search(query, cursor, null).getBody())
+                    .getData().get("nextCursor");
+            assertThat(cursor).as("cursor after page " + page).isNotNull();
+        }
+        return cursor;
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.catalogservice.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.example.catalogservice.dto.Address;
+import org.example.catalogservice.models.Restaurant;
+import org.example.catalogservice.repositories.RestaurantsRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+/**
+ * Compares closed-loop throughput and latency of the database-bound
+ * restaurant listing with Tomcat's platform-thread pool and with the
+ * virtual-threads profile, both against the same embedded Postgres and the
+ * same connection pool size, so the only difference is the threading model.
+ * <p>
+ * Requests shed by the virtual-threads concurrency limit (503) are reported
+ * apart from failures: shedding is the profile working as designed, anything
+ * else fails the run. The virtual-threads run must reach at least
+ * {@code loadtest.minThroughputRatio} of the platform run's throughput and at
+ * most {@code loadtest.maxP99Ratio} of its p99. Tune the load with
+ * -Dloadtest.clients and -Dloadtest.seconds.
+ */
+class VirtualThreadsThroughputTest {
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 400);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.seconds", 15));
+    private static final double MIN_THROUGHPUT_RATIO = Double.parseDouble(System.getProperty("loadtest.minThroughputRatio", "1.0"));
+    private static final double MAX_P99_RATIO = Double.parseDouble(System.getProperty("loadtest.maxP99Ratio", "1.0"));
+    private static final int RESTAURANTS = 500;
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private static EmbeddedPostgres postgres;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void compareThroughputOfPlatformAndVirtualThreads() throws Exception {
+        Result platform = run();
+        Result virtual = run("virtual-threads");
+
+        System.out.println(Result.header());
+        System.out.println(platform.format("platform threads"));
+        System.out.println(virtual.format("virtual threads"));
+
+        assertSoftly(softly -> {
+            softly.assertThat(platform.failed()).as("platform threads failures").isZero();
+            softly.assertThat(virtual.failed()).as("virtual threads failures").isZero();
+            softly.assertThat(virtual.throughput()).as("virtual threads req/s")
+                    .isGreaterThanOrEqualTo(platform.throughput() * MIN_THROUGHPUT_RATIO);
+            softly.assertThat(virtual.p99Millis()).as("virtual threads p99")
+                    .isLessThanOrEqualTo(platform.p99Millis() * MAX_P99_RATIO);
+        });
+        assertThat(platform.ok()).isPositive();
+        assertThat(virtual.ok()).isPositive();
+    }
+
+    private Result run(String... profiles) throws Exception {
+        try (CatalogServer server = CatalogServer.startOnPostgres(postgres, profiles)) {
+            seed(server.bean(RestaurantsRepository.class));
+            return drive(server.baseUri().resolve("/restaurants?size=50"));
+        }
+    }
+
+    private void seed(RestaurantsRepository restaurantsRepository) {
+        // The database outlives each server, so the second run reuses the first run's rows.
+        if (restaurantsRepository.count() >= RESTAURANTS) {
+            return;
+        }
+        List<Restaurant> restaurants = new ArrayList<>();
+        for (int i = 0; i < RESTAURANTS; i++) {
+            restaurants.add(Restaurant.builder()
+                    .name("restaurant-" + i)
+                    .address(new Address(i + 1, "street", "locality", "city", "state", "country", "600001"))
+                    .build());
+        }
+        restaurantsRepository.saveAll(restaurants);
+    }
+
+    private Result drive(URI uri) throws InterruptedException {
+        Histogram latencies = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+        LongAdder shed = new LongAdder();
+        LongAdder failed = new LongAdder();
+        long deadline = System.nanoTime() + DURATION.toNanos();
+
+        try (ExecutorService io = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(io).build()) {
+            HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+            // Closed before the client: waits for every loop to pass the deadline.
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < CLIENTS; i++) {
+                    clients.submit(() -> {
+                        while (System.nanoTime() < deadline) {
+                            long start = System.nanoTime();
+                            try {
+                                int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                                if (status == 200) {
+                                    long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+                                    latencies.recordValue(Math.min(micros, MAX_TRACKABLE_MICROS));
+                                } else if (status == 503) {
+                                    shed.increment();
+                                } else {
+                                    failed.increment();
+                                }
+                            } catch (Exception e) {
+                                failed.increment();
+                            }
+                        }
+                    });
+                }
+            }
+        }
+        return new Result(latencies, shed.sum(), failed.sum(), DURATION);
+    }
+
+    private record Result(Histogram latencies, long shed, long failed, Duration duration) {
+        long ok() {
+            return latencies.getTotalCount();
+        }
+
+        double throughput() {
+            return ok() / (double) duration.toSeconds();
+        }
+
+        double p99Millis() {
+            return latencies.getValueAtPercentile(99) / 1000.0;
+        }
+
+        String format(String name) {
+            return String.format("%-18s %10.1f %9.2f %9.2f %8d %8d",
+                    name, throughput(), latencies.getValueAtPercentile(50) / 1000.0, p99Millis(), shed, failed);
+        }
+
+        static String header() {
+            return String.format("%-18s %10s %9s %9s %8s %8s", "threads", "ok req/s", "p50 ms", "p99 ms", "shed", "failed");
+        }
+    }
+}
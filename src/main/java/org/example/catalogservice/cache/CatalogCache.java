@@ -0,0 +1,251 @@
+package org.example.catalogservice.cache;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.catalogservice.dto.ApiResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache of pre-rendered catalog reads keyed by restaurant id,
+ * bounded by total body size and a TTL. Every replica evicts a restaurant
+ * when its change reaches the catalog change feed (see
+ * {@link CatalogCacheInvalidator}); the replica that made the write also
+ * evicts on commit. ETags digest the rendered JSON body, so every replica
+ * tags the same data alike.
+ */
+@Component
+public class CatalogCache implements MeterBinder {
+    private final ObjectMapper objectMapper;
+    // Bumped on every eviction; tells which in-flight loads predate it. Only loads
+    // need it, so it is forgotten a TTL after the restaurant's last eviction.
+    private final Cache<UUID, Long> versions;
+    private final Map<WireFormat, JsonFactory> binaryFactories = new EnumMap<>(Map.of(
+            WireFormat.CBOR, new CBORFactory(),
+            WireFormat.SMILE, new SmileFactory()));
+    private final Cache<Key, Entry> menus;
+    private final Cache<Key, Entry> restaurants;
+    private final SingleFlight<Key, RenderedResponse> menuLoads = new SingleFlight<>();
+    private final SingleFlight<Key, RenderedResponse> restaurantLoads = new SingleFlight<>();
+    private final ResponseCompressor compressor;
+
+    public CatalogCache(ObjectMapper objectMapper,
+                        @Value("${catalog.cache.maximum-bytes:67108864}") long maximumBytes,
+                        @Value("${catalog.cache.ttl-seconds:300}") long ttlSeconds,
+                        @Value("${catalog.cache.compression.min-bytes:1024}") int compressionMinBytes) {
+        this.objectMapper = objectMapper;
+        this.compressor = new ResponseCompressor(compressionMinBytes);
+        // catalog.cache.maximum-bytes bounds both caches together. Menus are far
+        // larger than single restaurants, so they get most of it.
+        long menuBytes = maximumBytes / 4 * 3;
+        this.menus = newCache(menuBytes, ttlSeconds);
+        this.restaurants = newCache(maximumBytes - menuBytes, ttlSeconds);
+        this.versions = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public RenderedResponse menu(UUID restaurantId, Supplier<ResponseEntity<ApiResponse>> loader) {
+        return menu(restaurantId, WireFormat.JSON, loader);
+    }
+
+    public RenderedResponse menu(UUID restaurantId, WireFormat format, Supplier<ResponseEntity<ApiResponse>> loader) {
+        return menu(restaurantId, format, null, loader);
+    }
+
+    /**
+     * @param fields a parsed {@link org.example.catalogservice.utils.Fieldset},
+     *               {@code null} for the full menu
+     */
+    public RenderedResponse menu(UUID restaurantId, WireFormat format, List<String> fields,
+                                 Supplier<ResponseEntity<ApiResponse>> loader) {
+        return load(menus, menuLoads, new Key(restaurantId, format, fieldsTag(fields)), loader);
+    }
+
+    public RenderedResponse restaurant(UUID restaurantId, Supplier<ResponseEntity<ApiResponse>> loader) {
+        return restaurant(restaurantId, WireFormat.JSON, loader);
+    }
+
+    public RenderedResponse restaurant(UUID restaurantId, WireFormat format, Supplier<ResponseEntity<ApiResponse>> loader) {
+        return load(restaurants, restaurantLoads, new Key(restaurantId, format, null), loader);
+    }
+
+    /**
+     * The response for one request: the precomputed gzip body when the
+     * client accepts gzip and one exists, the plain body otherwise.
+     */
+    public ResponseEntity<byte[]> respond(RenderedResponse rendered, boolean acceptsGzip) {
+        if (acceptsGzip && rendered.getGzipBody() != null) {
+            compressor.served(rendered);
+        }
+        return rendered.toResponseEntity(acceptsGzip);
+    }
+
+    /**
+     * Drops every cached rendering of the restaurant and its menu, in every
+     * format and fieldset, and any load of them still in flight.
+     */
+    public void evict(UUID restaurantId) {
+        versions.asMap().merge(restaurantId, 1L, Long::sum);
+        Predicate<Key> ofRestaurant = key -> key.restaurantId().equals(restaurantId);
+        menuLoads.forgetIf(ofRestaurant);
+        restaurantLoads.forgetIf(ofRestaurant);
+        // Fieldset keys cannot be enumerated, so both caches are scanned; writes are rare next to reads.
+        menus.asMap().keySet().removeIf(ofRestaurant);
+        restaurants.asMap().keySet().removeIf(ofRestaurant);
+    }
+
+    public void evictAll() {
+        menus.invalidateAll();
+        restaurants.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, menus, "catalog.menus");
+        CaffeineCacheMetrics.monitor(registry, restaurants, "catalog.restaurants");
+        bindLoads(registry, menuLoads, "catalog.menus");
+        bindLoads(registry, restaurantLoads, "catalog.restaurants");
+        FunctionTimer.builder("catalog.cache.compression", compressor,
+                        ResponseCompressor::compressions, ResponseCompressor::compressionNanos, TimeUnit.NANOSECONDS)
+                .description("Time spent gzipping rendered bodies")
+                .register(registry);
+        FunctionCounter.builder("catalog.cache.compression.bytes", compressor, ResponseCompressor::bytesIn)
+                .description("Bytes of rendered bodies gzipped")
+                .baseUnit("bytes")
+                .tag("stage", "input")
+                .register(registry);
+        FunctionCounter.builder("catalog.cache.compression.bytes", compressor, ResponseCompressor::bytesOut)
+                .description("Bytes of rendered bodies gzipped")
+                .baseUnit("bytes")
+                .tag("stage", "output")
+                .register(registry);
+        FunctionCounter.builder("catalog.cache.compression.served", compressor, ResponseCompressor::gzipResponses)
+                .description("Responses sent with a precomputed gzip body")
+                .register(registry);
+        FunctionCounter.builder("catalog.cache.compression.saved", compressor, ResponseCompressor::bytesSaved)
+                .description("Response bytes not sent thanks to gzip")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private RenderedResponse load(Cache<Key, Entry> cache, SingleFlight<Key, RenderedResponse> loads,
+                                  Key key, Supplier<ResponseEntity<ApiResponse>> loader) {
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null && cached.version() == version(key.restaurantId())) {
+            return cached.rendered();
+        }
+        return loads.execute(key, () -> {
+            long version = version(key.restaurantId());
+            RenderedResponse rendered;
+            if (key.format() == WireFormat.JSON) {
+                rendered = render(key.fields(), loader.get());
+            } else {
+                Key json = new Key(key.restaurantId(), WireFormat.JSON, key.fields());
+                rendered = transcode(load(cache, loads, json, loader), key.format());
+            }
+            cache.put(key, new Entry(version, rendered));
+            // An evict() that raced with the load bumped the version; drop what it could not see.
+            if (version(key.restaurantId()) != version) {
+                cache.invalidate(key);
+            }
+            return rendered;
+        });
+    }
+
+    private long version(UUID restaurantId) {
+        Long version = versions.getIfPresent(restaurantId);
+        return version == null ? 0 : version;
+    }
+
+    private static void bindLoads(MeterRegistry registry, SingleFlight<?, ?> loads, String cacheName) {
+        FunctionCounter.builder("catalog.cache.loads", loads, SingleFlight::loads)
+                .description("Cache misses that ran the loader")
+                .tag("cache", cacheName)
+                .register(registry);
+        FunctionCounter.builder("catalog.cache.coalesced", loads, SingleFlight::coalesced)
+                .description("Cache misses that shared an in-flight load instead of running the loader")
+                .tag("cache", cacheName)
+                .register(registry);
+    }
+
+    private RenderedResponse render(String fields, ResponseEntity<ApiResponse> response) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(response.getBody());
+            String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            if (fields != null) {
+                etag = RenderedResponse.withSuffix(etag, fields);
+            }
+            return new RenderedResponse(response.getStatusCode(), WireFormat.JSON, etag, body, compressor.gzip(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize catalog response", e);
+        }
+    }
+
+    private RenderedResponse transcode(RenderedResponse json, WireFormat format) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.getBody().length);
+        try (JsonParser parser = objectMapper.getFactory().createParser(json.getBody());
+             JsonGenerator generator = binaryFactories.get(format).createGenerator(out)) {
+            while (parser.nextToken() != null) {
+                generator.copyCurrentEvent(parser);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not transcode catalog response to " + format, e);
+        }
+        byte[] body = out.toByteArray();
+        return new RenderedResponse(json.getStatus(), format, withFormat(json.getEtag(), format), body, compressor.gzip(body));
+    }
+
+    private static String fieldsTag(List<String> fields) {
+        return fields == null ? null : String.join(".", fields);
+    }
+
+    private static String withFormat(String etag, WireFormat format) {
+        if (format.getEtagSuffix() == null) {
+            return etag;
+        }
+        return RenderedResponse.withSuffix(etag, format.getEtagSuffix());
+    }
+
+    private static Cache<Key, Entry> newCache(long maximumBytes, long ttlSeconds) {
+        return Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((Key key, Entry value) -> value.rendered().getBody().length
+                        + (value.rendered().getGzipBody() == null ? 0 : value.rendered().getGzipBody().length))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    private record Key(UUID restaurantId, WireFormat format, String fields) {
+    }
+
+    private record Entry(long version, RenderedResponse rendered) {
+    }
+}
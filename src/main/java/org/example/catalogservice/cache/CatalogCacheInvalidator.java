@@ -0,0 +1,55 @@
+package org.example.catalogservice.cache;
+
+import org.example.catalogservice.dto.CatalogChangeEvent;
+import org.example.catalogservice.services.CatalogChangesService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+
+import java.util.List;
+
+/**
+ * Evicts {@link CatalogCache} entries for every restaurant named in the
+ * catalog change feed, so a write made through any instance invalidates the
+ * cached copies on all of them within a poll interval.
+ */
+@Component
+public class CatalogCacheInvalidator implements DisposableBean {
+    private final CatalogChangesService catalogChangesService;
+    private final CatalogCache catalogCache;
+    private final boolean followChanges;
+    private Disposable following;
+
+    public CatalogCacheInvalidator(CatalogChangesService catalogChangesService,
+                                   CatalogCache catalogCache,
+                                   @Value("${catalog.changes.follow:true}") boolean followChanges) {
+        this.catalogChangesService = catalogChangesService;
+        this.catalogCache = catalogCache;
+        this.followChanges = followChanges;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (followChanges) {
+            // Nothing is cached before the application is ready, so older changes need no replay.
+            following = catalogChangesService.follow(catalogChangesService.settledHead(), this::apply);
+        }
+    }
+
+    private void apply(List<CatalogChangeEvent> changes) {
+        changes.stream()
+                .map(CatalogChangeEvent::getRestaurantId)
+                .distinct()
+                .forEach(catalogCache::evict);
+    }
+
+    @Override
+    public void destroy() {
+        if (following != null) {
+            following.dispose();
+        }
+    }
+}
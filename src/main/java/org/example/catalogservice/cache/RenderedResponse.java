@@ -0,0 +1,59 @@
+package org.example.catalogservice.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * A response body serialized once and replayed as raw bytes until the
+ * underlying data changes, together with the format and strong ETag it was
+ * rendered under. Large bodies also carry a gzip encoding made at the same
+ * time, so compressed responses cost no CPU per request.
+ */
+@Getter
+@RequiredArgsConstructor
+public class RenderedResponse {
+    static final String GZIP_ETAG_SUFFIX = "gz";
+
+    private final HttpStatusCode status;
+    private final WireFormat format;
+    private final String etag;
+    private final byte[] body;
+    /** {@code null} when the body is too small to be worth compressing. */
+    private final byte[] gzipBody;
+
+    public ResponseEntity<byte[]> toResponseEntity() {
+        return toResponseEntity(false);
+    }
+
+    /**
+     * The ETag as sent to a client that does or does not accept gzip. Clients
+     * that do get their own tag even when the body is too small to be
+     * compressed, so it does not depend on the compression threshold.
+     */
+    public String getEtag(boolean acceptsGzip) {
+        return acceptsGzip ? withSuffix(etag, GZIP_ETAG_SUFFIX) : etag;
+    }
+
+    /**
+     * The response for a client that does or does not accept gzip.
+     */
+    public ResponseEntity<byte[]> toResponseEntity(boolean acceptsGzip) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status)
+                .eTag(getEtag(acceptsGzip))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(format.getMediaType());
+        if (acceptsGzip && gzipBody != null) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzipBody);
+        }
+        return response.body(body);
+    }
+
+    static String withSuffix(String etag, String suffix) {
+        return etag.substring(0, etag.length() - 1) + "-" + suffix + "\"";
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.catalogservice.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzips rendered bodies once, when they are cached, and keeps the counts
+ * behind the compression metrics. Because a body is compressed once per
+ * version rather than once per request, the slowest (best) level is used.
+ */
+final class ResponseCompressor {
+    private final int minBytes;
+    private final LongAdder compressions = new LongAdder();
+    private final LongAdder compressionNanos = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder gzipResponses = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    ResponseCompressor(int minBytes) {
+        this.minBytes = minBytes;
+    }
+
+    /**
+     * The gzip encoding of the body, or {@code null} when the body is below
+     * the threshold or does not get smaller.
+     */
+    byte[] gzip(byte[] body) {
+        if (body.length < minBytes) {
+            return null;
+        }
+        long start = System.nanoTime();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (OutputStream gzip = new BestCompressionGzipOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not gzip catalog response", e);
+        }
+        byte[] compressed = out.toByteArray();
+        compressionNanos.add(System.nanoTime() - start);
+        compressions.increment();
+        bytesIn.add(body.length);
+        bytesOut.add(compressed.length);
+        return compressed.length < body.length ? compressed : null;
+    }
+
+    void served(RenderedResponse response) {
+        gzipResponses.increment();
+        bytesSaved.add(response.getBody().length - response.getGzipBody().length);
+    }
+
+    long compressions() {
+        return compressions.sum();
+    }
+
+    double compressionNanos() {
+        return compressionNanos.sum();
+    }
+
+    long bytesIn() {
+        return bytesIn.sum();
+    }
+
+    long bytesOut() {
+        return bytesOut.sum();
+    }
+
+    long gzipResponses() {
+        return gzipResponses.sum();
+    }
+
+    long bytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    private static final class BestCompressionGzipOutputStream extends GZIPOutputStream {
+        BestCompressionGzipOutputStream(OutputStream out) throws IOException {
+            super(out, 8192);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.catalogservice.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates concurrent loads of the same key: the first caller runs the
+ * loader, callers arriving while it is in flight wait for and share its
+ * result (or its exception). Nothing is retained once the call completes.
+ */
+final class SingleFlight<K, V> {
+    private final ConcurrentMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = calls.putIfAbsent(key, call);
+        if (inFlight != null) {
+            coalesced.increment();
+            return join(inFlight);
+        }
+
+        loads.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    /**
+     * Makes the next caller of every matching key start a fresh load even if
+     * one is in flight.
+     */
+    void forgetIf(Predicate<? super K> keys) {
+        calls.keySet().removeIf(keys);
+    }
+
+    long loads() {
+        return loads.sum();
+    }
+
+    long coalesced() {
+        return coalesced.sum();
+    }
+
+    private static <V> V join(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.catalogservice.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.List;
+
+/**
+ * Representations a cached catalog read can be served in. CBOR and Smile
+ * carry exactly the JSON document's structure, so callers decode them into
+ * the same DTOs with the matching Jackson data format.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum WireFormat {
+    JSON(MediaType.APPLICATION_JSON, null),
+    CBOR(MediaType.APPLICATION_CBOR, "cbor"),
+    SMILE(MediaType.valueOf("application/x-jackson-smile"), "smile");
+
+    private final MediaType mediaType;
+    private final String etagSuffix;
+
+    /**
+     * The most preferred format the {@code Accept} header allows. Anything
+     * unparseable, absent or not matching a binary format gets JSON, as
+     * before binary formats existed.
+     */
+    public static WireFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(accepted);
+        } catch (IllegalArgumentException e) {
+            // Malformed types or more than MimeTypeUtils will sort.
+            return JSON;
+        }
+        for (MediaType mediaType : accepted) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            for (WireFormat format : values()) {
+                if (mediaType.isCompatibleWith(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        return JSON;
+    }
+}
@@ -2,6 +2,7 @@ package org.example.catalogservice.configs;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.core.userdetails.User;
@@ -11,7 +12,12 @@ import org.springframework.security.crypto.password.NoOpPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 
+/**
+ * Form-login users. Not loaded under the {@code stateless} profile, where
+ * callers authenticate with bearer tokens instead.
+ */
 @Configuration
+@Profile("!stateless")
 public class AppConfig {
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -0,0 +1,43 @@
+package org.example.catalogservice.configs;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.time.Duration;
+
+/**
+ * Bearer-token verification for the {@code stateless} profile.
+ * <p>
+ * Tokens are checked locally (signature, expiry, issuer); the issuer is
+ * only contacted to fetch its JWK set, which is cached for
+ * {@code catalog.security.jwt.jwk-cache-ttl-seconds} and re-fetched early
+ * when a token arrives signed with a key id that is not in the cached set.
+ */
+@Configuration
+@Profile("stateless")
+public class JwtConfig {
+
+    // Benchmarks and tests register a decoder for a local key before this is considered.
+    @Bean
+    @ConditionalOnMissingBean(JwtDecoder.class)
+    public JwtDecoder jwtDecoder(@Value("${catalog.security.jwt.jwk-set-uri}") String jwkSetUri,
+                                 @Value("${catalog.security.jwt.issuer}") String issuer,
+                                 @Value("${catalog.security.jwt.jwk-cache-ttl-seconds:300}") long jwkCacheTtlSeconds) {
+        CaffeineCache jwkSetCache = new CaffeineCache("catalog.jwks", Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(jwkCacheTtlSeconds))
+                .build());
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withJwkSetUri(jwkSetUri)
+                .cache(jwkSetCache)
+                .build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuer));
+        return decoder;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.catalogservice.configs;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.catalogservice.filters.StatementCountFilter;
+import org.example.catalogservice.metrics.StatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Service timers ({@code @Timed}), per-request SQL statement counts and the
+ * N+1 detector. Repository invocation timers and Hikari pool gauges come
+ * from Spring Boot's actuator auto-configuration.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public StatementCounter statementCounter(MeterRegistry meterRegistry) {
+        return new StatementCounter(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer(StatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<StatementCountFilter> statementCountFilter(
+            StatementCounter statementCounter, MeterRegistry meterRegistry,
+            @Value("${catalog.metrics.statement-threshold:10}") int threshold) {
+        FilterRegistrationBean<StatementCountFilter> registration =
+                new FilterRegistrationBean<>(new StatementCountFilter(statementCounter, meterRegistry, threshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
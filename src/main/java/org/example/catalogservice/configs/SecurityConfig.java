@@ -1,13 +1,18 @@
 package org.example.catalogservice.configs;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.servlet.util.matcher.MvcRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
@@ -24,7 +29,8 @@ import static org.springframework.security.config.Customizer.withDefaults;
 public class SecurityConfig {
 
     public static final String[] PUBLIC_URLS = {
-            "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html"
+            "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html",
+            "/actuator/health/**"
     };
 
     @Bean
@@ -38,20 +44,38 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * Actuator endpoints in the default mode. A Prometheus scraper cannot
+     * follow a login form, so these take HTTP Basic and keep no session;
+     * health stays public.
+     */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, HandlerMappingIntrospector introspector) throws Exception {
-        MvcRequestMatcher h2ConsoleMatcher = new MvcRequestMatcher(introspector, "/h2-console/**");
-        h2ConsoleMatcher.setServletPath("/h2-console");
-
-        MvcRequestMatcher apiMatcher = new MvcRequestMatcher(introspector, "/**");
-        apiMatcher.setServletPath("/");
-
+    @Order(1)
+    @Profile("!stateless")
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http) throws Exception {
         http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
                 .authorizeHttpRequests(authorize -> authorize
-                        .requestMatchers(PUBLIC_URLS).permitAll()
-                        .requestMatchers(h2ConsoleMatcher).permitAll()
-                        .requestMatchers(apiMatcher).authenticated()
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .anyRequest().authenticated()
                 )
+                .httpBasic(withDefaults())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .csrf(AbstractHttpConfigurer::disable);
+
+        return http.build();
+    }
+
+    /**
+     * Default mode: form login backed by an HTTP session, for people using
+     * the API from a browser or Swagger UI.
+     */
+    @Bean
+    @Profile("!stateless")
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, HandlerMappingIntrospector introspector) throws Exception {
+        MvcRequestMatcher h2ConsoleMatcher = h2ConsoleMatcher(introspector);
+
+        authorizeRequests(http, introspector)
                 .formLogin(withDefaults())
                 .csrf(csrf -> csrf
                         .ignoringRequestMatchers(h2ConsoleMatcher)
@@ -59,4 +83,43 @@ public class SecurityConfig {
 
         return http.build();
     }
-}
\ No newline at end of file
+
+    /**
+     * {@code stateless} profile: every request carries a signed bearer token
+     * that is verified locally against the issuer's cached key set (see
+     * {@link JwtConfig}). No session is created or read, so replicas need no
+     * sticky routing, and CSRF protection is off because nothing rides on
+     * cookies.
+     */
+    @Bean
+    @Profile("stateless")
+    public SecurityFilterChain statelessSecurityFilterChain(HttpSecurity http, HandlerMappingIntrospector introspector) throws Exception {
+        http
+                .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers(PUBLIC_URLS).permitAll()
+                        .requestMatchers(h2ConsoleMatcher(introspector)).permitAll()
+                        // Callers are services, not browsers: nothing outside the public URLs is reachable without a token.
+                        .anyRequest().authenticated()
+                )
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .csrf(AbstractHttpConfigurer::disable)
+                .oauth2ResourceServer(resourceServer -> resourceServer.jwt(withDefaults()));
+
+        return http.build();
+    }
+
+    private HttpSecurity authorizeRequests(HttpSecurity http, HandlerMappingIntrospector introspector) throws Exception {
+        return http
+                .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers(PUBLIC_URLS).permitAll()
+                        .requestMatchers(h2ConsoleMatcher(introspector)).permitAll()
+                        .anyRequest().authenticated()
+                );
+    }
+
+    private static MvcRequestMatcher h2ConsoleMatcher(HandlerMappingIntrospector introspector) {
+        MvcRequestMatcher h2ConsoleMatcher = new MvcRequestMatcher(introspector, "/h2-console/**");
+        h2ConsoleMatcher.setServletPath("/h2-console");
+        return h2ConsoleMatcher;
+    }
+}
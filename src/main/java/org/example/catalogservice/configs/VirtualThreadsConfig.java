@@ -0,0 +1,47 @@
+package org.example.catalogservice.configs;
+
+import org.example.catalogservice.filters.ConcurrencyLimitFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Opt-in ({@code virtual-threads} profile) execution of every request on its
+ * own virtual thread instead of Tomcat's bounded platform-thread pool, so
+ * threads blocked on Postgres no longer cap throughput. Concurrency is then
+ * bounded explicitly, relative to the connection pool, by
+ * {@link ConcurrencyLimitFilter}.
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadsConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            @Value("${catalog.virtual-threads.max-concurrent-requests}") int maxConcurrentRequests,
+            @Value("${catalog.virtual-threads.acquire-timeout-ms}") long acquireTimeoutMillis) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(maxConcurrentRequests, acquireTimeoutMillis));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
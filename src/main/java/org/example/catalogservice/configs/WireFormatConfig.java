@@ -0,0 +1,31 @@
+package org.example.catalogservice.configs;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * CBOR ({@code application/cbor}) and Smile ({@code application/x-jackson-smile})
+ * request and response bodies, negotiated on {@code Accept} and
+ * {@code Content-Type}. The mappers come from Boot's builder so they share
+ * the JSON mapper's modules and settings; Boot keeps JSON ahead of them, so
+ * {@code Accept: *}{@code /*} still gets JSON. The cached reads negotiate
+ * separately through {@link org.example.catalogservice.cache.WireFormat}.
+ */
+@Configuration
+public class WireFormatConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
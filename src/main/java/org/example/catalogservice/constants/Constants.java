@@ -1,15 +1,39 @@
 package org.example.catalogservice.constants;
 
+import java.util.List;
+
 public final class Constants {
     private Constants() {}
     // Restaurants
     public static final String RESTAURANT_CREATED = "Restaurant created successfully";
     public static final String RESTAURANT_ALREADY_EXISTS = "Restaurant already exists with same name and address";
     public static final String RESTAURANT_NOT_FOUND = "Restaurant not found with the given id";
+    public static final String INVALID_COORDINATES = "Latitude must be within [-90, 90] and longitude within [-180, 180], and both must be given";
+    public static final double MAX_NEARBY_RADIUS_KM = 50;
+    public static final List<String> RESTAURANT_FIELDS = List.of("id", "name", "address");
     // Items
     public static final String ITEM_ADDED = "Item added to the menu successfully";
     public static final String ITEM_ALREADY_EXISTS = "Item already exists in the given restaurant";
     public static final String ITEM_NOT_FOUND = "Item not found in the restaurant";
+    public static final String ITEMS_ADDED = "Items added to the menu";
+    public static final int MAX_BULK_ITEMS = 500;
+    public static final String TOO_MANY_ITEMS = "Too many item ids requested at once";
+    public static final int MAX_BATCH_ITEMS = 50;
+    public static final List<String> ITEM_FIELDS = List.of("id", "name", "description", "restaurantId", "price");
     // Common
     public static final String FETCHED = "Fetched";
+    public static final String INVALID_ID = "Ids must be UUIDs";
+    public static final String INVALID_CURSOR = "Invalid pagination cursor";
+    public static final String INVALID_SEARCH_QUERY = "Search query must contain at least one letter or digit";
+    public static final String INVALID_FIELDS = "Unknown field requested in fields";
+    public static final String TOO_MANY_REQUESTS = "Too many concurrent requests";
+    // Change feed
+    public static final int DEFAULT_CHANGES_WAIT_SECONDS = 20;
+    public static final int MAX_CHANGES_WAIT_SECONDS = 30;
+    // Search: how many matches are ranked, and how many items are scanned for them before the index is used
+    public static final int MAX_SEARCH_RESULTS = 100;
+    public static final int SEARCH_SCAN_WINDOW = 4000;
+    // Pagination
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package org.example.catalogservice.controllers;
+
+import lombok.RequiredArgsConstructor;
+
+import org.example.catalogservice.dto.ApiResponse;
+import org.example.catalogservice.dto.CatalogChangeEvent;
+import org.example.catalogservice.services.CatalogChangesService;
+import org.example.catalogservice.services.CatalogExportService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.example.catalogservice.constants.Constants.DEFAULT_CHANGES_WAIT_SECONDS;
+import static org.example.catalogservice.constants.Constants.DEFAULT_PAGE_SIZE;
+import static org.example.catalogservice.constants.Constants.MAX_CHANGES_WAIT_SECONDS;
+import static org.example.catalogservice.constants.Constants.MAX_PAGE_SIZE;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/catalog")
+public class CatalogController {
+    private final CatalogExportService catalogExportService;
+    private final CatalogChangesService catalogChangesService;
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(this.catalogExportService::export);
+    }
+
+    @GetMapping("/changes")
+    public Mono<ResponseEntity<ApiResponse>> changes(@RequestParam(name = "after", defaultValue = "0") long after,
+                                                     @RequestParam(name = "limit", required = false) Integer limit,
+                                                     @RequestParam(name = "wait", required = false) Integer wait) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        int waitSeconds = wait == null ? DEFAULT_CHANGES_WAIT_SECONDS : Math.max(0, Math.min(wait, MAX_CHANGES_WAIT_SECONDS));
+        return this.catalogChangesService.poll(Math.max(0, after), pageSize, Duration.ofSeconds(waitSeconds));
+    }
+
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<CatalogChangeEvent>> streamChanges(
+            @RequestParam(name = "after", defaultValue = "0") long after,
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        // A reconnecting EventSource sends the id of the last event it saw, which wins over the original query.
+        return this.catalogChangesService.stream(Math.max(0, lastEventId == null ? after : lastEventId));
+    }
+}
@@ -5,36 +5,72 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 
+import org.example.catalogservice.cache.CatalogCache;
+import org.example.catalogservice.cache.RenderedResponse;
+import org.example.catalogservice.cache.WireFormat;
 import org.example.catalogservice.dto.ApiResponse;
+import org.example.catalogservice.dto.BulkItemRequest;
 import org.example.catalogservice.dto.ItemRequest;
 import org.example.catalogservice.dto.ItemResponse;
 import org.example.catalogservice.services.ItemsService;
+import org.example.catalogservice.utils.AcceptEncoding;
+import org.example.catalogservice.utils.Fieldset;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.example.catalogservice.constants.Constants.ITEM_FIELDS;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/restaurants/{restaurantId}/items")
 public class ItemsController {
     private final ItemsService itemsService;
+    private final CatalogCache catalogCache;
 
     @PostMapping
-    public ResponseEntity<ApiResponse> add(@PathVariable(name = "restaurantId") String restaurantId, @Valid @RequestBody ItemRequest request) {
+    public ResponseEntity<ApiResponse> add(@PathVariable(name = "restaurantId") UUID restaurantId, @Valid @RequestBody ItemRequest request) {
         return this.itemsService.add(restaurantId, request);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse> addAll(@PathVariable(name = "restaurantId") UUID restaurantId, @Valid @RequestBody BulkItemRequest request) {
+        return this.itemsService.addAll(restaurantId, request);
+    }
+
     @GetMapping
-    public ResponseEntity<ApiResponse> fetchAll(@PathVariable(name = "restaurantId") String restaurantId) {
-        return this.itemsService.fetchAll(restaurantId);
+    public ResponseEntity<byte[]> fetchAll(@PathVariable(name = "restaurantId") UUID restaurantId,
+                                           @RequestParam(name = "fields", required = false) String fields,
+                                           WebRequest webRequest) {
+        List<String> fieldset = Fieldset.parse(fields, ITEM_FIELDS);
+        WireFormat format = WireFormat.negotiate(webRequest.getHeader(HttpHeaders.ACCEPT));
+        boolean gzip = AcceptEncoding.acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        RenderedResponse menu = this.catalogCache.menu(restaurantId, format, fieldset, () -> fieldset == null
+                ? this.itemsService.fetchAll(restaurantId)
+                : this.itemsService.fetchAll(restaurantId, fieldset));
+        if (webRequest.checkNotModified(menu.getEtag(gzip))) {
+            return null;
+        }
+        return this.catalogCache.respond(menu, gzip);
+    }
+
+    @GetMapping("/batch")
+    public ResponseEntity<ApiResponse> fetchAllById(@PathVariable(name = "restaurantId") UUID restaurantId, @RequestParam(name = "ids") List<UUID> ids) {
+        return this.itemsService.fetchAllById(restaurantId, ids);
     }
 
     @GetMapping("/{itemId}")
-    public ResponseEntity<ApiResponse> fetchById(@PathVariable(name = "itemId") String itemId) {
+    public ResponseEntity<ApiResponse> fetchById(@PathVariable(name = "itemId") UUID itemId) {
         return this.itemsService.fetchById(itemId);
     }
 
@@ -4,22 +4,36 @@ import jakarta.validation.Valid;
 
 import lombok.RequiredArgsConstructor;
 
+import org.example.catalogservice.cache.CatalogCache;
+import org.example.catalogservice.cache.RenderedResponse;
+import org.example.catalogservice.cache.WireFormat;
 import org.example.catalogservice.dto.ApiResponse;
+import org.example.catalogservice.dto.RestaurantFilter;
 import org.example.catalogservice.dto.RestaurantRequest;
 import org.example.catalogservice.services.RestaurantsService;
+import org.example.catalogservice.utils.AcceptEncoding;
+import org.example.catalogservice.utils.Fieldset;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.UUID;
+
+import static org.example.catalogservice.constants.Constants.RESTAURANT_FIELDS;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/restaurants")
 public class RestaurantsController {
     private final RestaurantsService restaurantsService;
+    private final CatalogCache catalogCache;
 
     @PostMapping
     public ResponseEntity<ApiResponse> create(@Valid @RequestBody RestaurantRequest request) {
@@ -27,12 +41,36 @@ public class RestaurantsController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse> fetchAll() {
-        return this.restaurantsService.fetchAll();
+    public ResponseEntity<ApiResponse> fetchAll(@RequestParam(name = "cursor", required = false) String cursor,
+                                                @RequestParam(name = "size", required = false) Integer size,
+                                                @RequestParam(name = "city", required = false) String city,
+                                                @RequestParam(name = "locality", required = false) String locality,
+                                                @RequestParam(name = "zipcode", required = false) String zipcode,
+                                                @RequestParam(name = "fields", required = false) String fields) {
+        RestaurantFilter filter = RestaurantFilter.builder()
+                .city(city)
+                .locality(locality)
+                .zipcode(zipcode)
+                .build();
+        return this.restaurantsService.fetchAll(cursor, size, filter, Fieldset.parse(fields, RESTAURANT_FIELDS));
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse> fetchNearby(@RequestParam(name = "lat") double latitude,
+                                                   @RequestParam(name = "lon") double longitude,
+                                                   @RequestParam(name = "radiusKm", required = false) Double radiusKm,
+                                                   @RequestParam(name = "limit", required = false) Integer limit) {
+        return this.restaurantsService.fetchNearby(latitude, longitude, radiusKm, limit);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse> fetchById(@PathVariable(value = "id") String id) {
-        return this.restaurantsService.fetchById(id);
+    public ResponseEntity<byte[]> fetchById(@PathVariable(value = "id") UUID id, WebRequest webRequest) {
+        WireFormat format = WireFormat.negotiate(webRequest.getHeader(HttpHeaders.ACCEPT));
+        boolean gzip = AcceptEncoding.acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        RenderedResponse restaurant = this.catalogCache.restaurant(id, format, () -> this.restaurantsService.fetchById(id));
+        if (webRequest.checkNotModified(restaurant.getEtag(gzip))) {
+            return null;
+        }
+        return this.catalogCache.respond(restaurant, gzip);
     }
 }
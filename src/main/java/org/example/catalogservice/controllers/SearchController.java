@@ -0,0 +1,25 @@
+package org.example.catalogservice.controllers;
+
+import lombok.RequiredArgsConstructor;
+
+import org.example.catalogservice.dto.ApiResponse;
+import org.example.catalogservice.services.ItemsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/items")
+public class SearchController {
+    private final ItemsService itemsService;
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse> search(@RequestParam(name = "q") String query,
+                                              @RequestParam(name = "cursor", required = false) String cursor,
+                                              @RequestParam(name = "size", required = false) Integer size) {
+        return this.itemsService.search(query, cursor, size);
+    }
+}
@@ -1,7 +1,6 @@
 package org.example.catalogservice.dto;
 
 
-import jakarta.persistence.Embeddable;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
 import lombok.*;
@@ -11,7 +10,6 @@ import org.springframework.validation.annotation.Validated;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Embeddable
 @Validated
 public class Address {
     @Min(value = 1, message = "Building number has to be natural number")
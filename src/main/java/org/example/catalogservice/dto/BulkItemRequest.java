@@ -0,0 +1,24 @@
+package org.example.catalogservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+import static org.example.catalogservice.constants.Constants.MAX_BULK_ITEMS;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkItemRequest {
+    @NotEmpty(message = "At least one item is required")
+    @Size(max = MAX_BULK_ITEMS, message = "At most " + MAX_BULK_ITEMS + " items can be added at once")
+    private List<@NotNull(message = "Items must not be null") @Valid ItemRequest> items;
+}
@@ -0,0 +1,22 @@
+package org.example.catalogservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkItemResult {
+    public enum Status { CREATED, DUPLICATE }
+
+    private String name;
+    private Status status;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private UUID id;
+}
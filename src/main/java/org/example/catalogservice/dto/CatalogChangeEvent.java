@@ -0,0 +1,31 @@
+package org.example.catalogservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.catalogservice.models.CatalogChange;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CatalogChangeEvent {
+    private long seq;
+    private CatalogChange.Type type;
+    private UUID restaurantId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private UUID itemId;
+    private Instant createdAt;
+    public CatalogChangeEvent(CatalogChange change) {
+        this.seq = change.getSeq();
+        this.type = change.getType();
+        this.restaurantId = change.getRestaurantId();
+        this.itemId = change.getItemId();
+        this.createdAt = change.getCreatedAt();
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.catalogservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * One restaurant/item pair of the flattened catalog export. Restaurants
+ * without a menu yield a single row whose item columns are all null.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CatalogExportRow {
+    private UUID restaurantId;
+    private String restaurantName;
+    private Address address;
+    private UUID itemId;
+    private String itemName;
+    private String itemDescription;
+    private Double itemPrice;
+}
@@ -6,16 +6,19 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.example.catalogservice.models.Item;
+
+import java.util.UUID;
+
 @Data
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 public class ItemResponse {
-    private String id;
+    private UUID id;
     private String name;
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private String description;
-    private String restaurantId;
+    private UUID restaurantId;
     private double price;
     public ItemResponse(Item item) {
         this.id = item.getId();
@@ -0,0 +1,15 @@
+package org.example.catalogservice.dto;
+
+import java.util.UUID;
+
+/**
+ * Row of the native full-text search query; column aliases match the getters.
+ */
+public interface ItemSearchRow {
+    UUID getId();
+    String getName();
+    String getDescription();
+    UUID getRestaurantId();
+    Double getPrice();
+    Float getRank();
+}
@@ -0,0 +1,14 @@
+package org.example.catalogservice.dto;
+
+import java.util.UUID;
+
+/**
+ * Menu row without the description, for listings that do not show it; the
+ * {@code text} column is then never read.
+ */
+public interface ItemSummary {
+    UUID getId();
+    String getName();
+    UUID getRestaurantId();
+    Double getPrice();
+}
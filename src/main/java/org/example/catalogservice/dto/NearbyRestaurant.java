@@ -0,0 +1,19 @@
+package org.example.catalogservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NearbyRestaurant {
+    private UUID id;
+    private String name;
+    private Address address;
+    private double distanceKm;
+}
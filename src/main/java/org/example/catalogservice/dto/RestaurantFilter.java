@@ -0,0 +1,15 @@
+package org.example.catalogservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RestaurantFilter {
+    private String city;
+    private String locality;
+    private String zipcode;
+}
@@ -0,0 +1,5 @@
+package org.example.catalogservice.dto;
+
+import java.util.UUID;
+
+public record RestaurantLocation(UUID id, double latitude, double longitude) {}
@@ -5,12 +5,15 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.example.catalogservice.models.Restaurant;
+
+import java.util.UUID;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class RestaurantResponse {
-    private String id;
+    private UUID id;
     private String name;
     private Address address;
     public RestaurantResponse(Restaurant restaurant) {
@@ -0,0 +1,8 @@
+package org.example.catalogservice.dto;
+
+import java.util.UUID;
+
+/**
+ * Restaurant listing row without the address.
+ */
+public record RestaurantSummary(UUID id, String name) {}
@@ -0,0 +1,25 @@
+package org.example.catalogservice.exceptions;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Identifies which database constraint rejected a write, so uniqueness and
+ * foreign keys enforced by the schema can be reported with the same
+ * exceptions a pre-check would have thrown.
+ */
+public final class ConstraintViolations {
+    private ConstraintViolations() {}
+
+    public static boolean isViolationOf(DataIntegrityViolationException e, String constraintName) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                // Drivers decorate the name differently (schema prefix, quoting, upper case).
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraintName);
+            }
+        }
+        return false;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 
 import java.util.HashMap;
@@ -27,6 +28,11 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(RESTAURANT_NOT_FOUND);
     }
 
+    @ExceptionHandler(value = InvalidCoordinatesException.class)
+    public ResponseEntity<String> handleInvalidCoordinatesException() {
+        return ResponseEntity.badRequest().body(INVALID_COORDINATES);
+    }
+
     @ExceptionHandler(value = ItemAlreadyExistsException.class)
     public ResponseEntity<String> handleItemAlreadyExistsException() {
         return ResponseEntity.badRequest().body(ITEM_ALREADY_EXISTS);
@@ -37,6 +43,31 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(ITEM_NOT_FOUND);
     }
 
+    @ExceptionHandler(value = TooManyItemsRequestedException.class)
+    public ResponseEntity<String> handleTooManyItemsRequestedException() {
+        return ResponseEntity.badRequest().body(TOO_MANY_ITEMS);
+    }
+
+    @ExceptionHandler(value = InvalidCursorException.class)
+    public ResponseEntity<String> handleInvalidCursorException() {
+        return ResponseEntity.badRequest().body(INVALID_CURSOR);
+    }
+
+    @ExceptionHandler(value = InvalidSearchQueryException.class)
+    public ResponseEntity<String> handleInvalidSearchQueryException() {
+        return ResponseEntity.badRequest().body(INVALID_SEARCH_QUERY);
+    }
+
+    @ExceptionHandler(value = InvalidFieldsException.class)
+    public ResponseEntity<String> handleInvalidFieldsException() {
+        return ResponseEntity.badRequest().body(INVALID_FIELDS);
+    }
+
+    @ExceptionHandler(value = MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<String> handleMethodArgumentTypeMismatchException() {
+        return ResponseEntity.badRequest().body(INVALID_ID);
+    }
+
     @ExceptionHandler(value = HttpMessageNotReadableException.class)
     public ResponseEntity<String> handleHttpMessageNotReadableException(HttpMessageNotReadableException e) {
         return ResponseEntity.badRequest().body(e.getMostSpecificCause().getMessage());
@@ -0,0 +1,7 @@
+package org.example.catalogservice.exceptions;
+
+public class InvalidCoordinatesException extends RuntimeException {
+    public InvalidCoordinatesException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.catalogservice.exceptions;
+
+public class InvalidFieldsException extends RuntimeException {
+    public InvalidFieldsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.catalogservice.exceptions;
+
+public class InvalidSearchQueryException extends RuntimeException {
+    public InvalidSearchQueryException(String message) {
+        super(message);
+    }
+}
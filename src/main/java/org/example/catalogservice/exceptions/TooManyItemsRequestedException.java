@@ -0,0 +1,7 @@
+package org.example.catalogservice.exceptions;
+
+public class TooManyItemsRequestedException extends RuntimeException {
+    public TooManyItemsRequestedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.catalogservice.filters;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.catalogservice.constants.Constants.TOO_MANY_REQUESTS;
+
+/**
+ * Caps the number of requests in flight. Without a bounded worker pool
+ * nothing else stops thousands of requests from queueing on a small
+ * connection pool, so excess load is shed with a 503 after a short wait
+ * instead of piling up behind Hikari's connection timeout.
+ * <p>
+ * The 503 is written directly rather than through {@code sendError}: an
+ * error dispatch to {@code /error} runs the security chain again, which
+ * answers an unauthenticated client with a login redirect instead.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+
+    public ConcurrencyLimitFilter(int maxConcurrentRequests, long acquireTimeoutMillis) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.getWriter().write(TOO_MANY_REQUESTS);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.catalogservice.filters;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.example.catalogservice.metrics.StatementCounter;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements each request issued, per endpoint, and
+ * flags requests above the threshold as likely N+1 query patterns.
+ * <p>
+ * Counting is per thread, so requests that go async (the NDJSON export and
+ * the change feed) are not recorded: their queries run on other threads
+ * after this filter has returned, and a partial count would read as a cheap
+ * endpoint.
+ */
+@Slf4j
+public class StatementCountFilter extends OncePerRequestFilter {
+    private final StatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+    private final int threshold;
+
+    public StatementCountFilter(StatementCounter statementCounter, MeterRegistry meterRegistry, int threshold) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        statementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = statementCounter.stop();
+            if (!request.isAsyncStarted()) {
+                record(request, statements);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, int statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+        DistributionSummary.builder("catalog.request.statements")
+                .description("SQL statements issued per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+        if (statements > threshold) {
+            Counter.builder("catalog.request.excessive.statements")
+                    .description("Requests that issued more statements than the N+1 threshold")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} {} issued {} SQL statements (threshold {}), possible N+1",
+                    request.getMethod(), uri, statements, threshold);
+        }
+    }
+}
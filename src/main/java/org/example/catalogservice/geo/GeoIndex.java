@@ -0,0 +1,161 @@
+package org.example.catalogservice.geo;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory spatial index of restaurant locations: a fixed grid of
+ * {@value #CELL_DEGREES}° cells (about 5.5 km of latitude), each holding the
+ * restaurants inside it. A radius query only visits the cells overlapping the
+ * circle's bounding box and filters them by great-circle distance, so its
+ * cost depends on local density rather than on the total number of
+ * restaurants.
+ */
+@Component
+public class GeoIndex {
+    static final double CELL_DEGREES = 0.05;
+    private static final int ROWS = (int) Math.ceil(180 / CELL_DEGREES);
+    private static final int COLUMNS = (int) Math.ceil(360 / CELL_DEGREES);
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    public record Hit(UUID id, double distanceKm) {}
+
+    private record Location(UUID id, double latitude, double longitude, long cell) {}
+
+    private final ConcurrentMap<Long, Map<UUID, Location>> cells = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, Location> locations = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a restaurant, or moves it if it is already indexed.
+     */
+    public void put(UUID id, double latitude, double longitude) {
+        Location location = new Location(id, latitude, longitude, cellOf(latitude, longitude));
+        Location previous = locations.put(id, location);
+        if (previous != null && previous.cell() != location.cell()) {
+            removeFromCell(previous);
+        }
+        cells.compute(location.cell(), (cell, members) -> {
+            Map<UUID, Location> cellMembers = members == null ? new ConcurrentHashMap<>() : members;
+            cellMembers.put(id, location);
+            return cellMembers;
+        });
+    }
+
+    public void remove(UUID id) {
+        Location previous = locations.remove(id);
+        if (previous != null) {
+            removeFromCell(previous);
+        }
+    }
+
+    public int size() {
+        return locations.size();
+    }
+
+    /**
+     * The {@code limit} closest restaurants within {@code radiusKm}, nearest first.
+     */
+    public List<Hit> withinRadius(double latitude, double longitude, double radiusKm, int limit) {
+        PriorityQueue<Hit> closest = new PriorityQueue<>(Comparator.comparingDouble(Hit::distanceKm).reversed());
+        double latitudeSpan = radiusKm / KM_PER_DEGREE;
+        int firstRow = Math.max(0, row(latitude - latitudeSpan));
+        int lastRow = Math.min(ROWS - 1, row(latitude + latitudeSpan));
+
+        // Widest longitude span of the circle, taken at the bounding box edge nearest a pole.
+        double maxLatitude = Math.min(90, Math.abs(latitude) + latitudeSpan);
+        double cos = Math.cos(Math.toRadians(maxLatitude));
+        double longitudeSpan = cos < 1e-9 ? 180 : radiusKm / (KM_PER_DEGREE * cos);
+        int firstColumn;
+        int columnCount;
+        if (longitudeSpan >= 180) {
+            firstColumn = 0;
+            columnCount = COLUMNS;
+        } else {
+            firstColumn = column(longitude - longitudeSpan);
+            columnCount = Math.min(COLUMNS, Math.floorMod(column(longitude + longitudeSpan) - firstColumn, COLUMNS) + 1);
+        }
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int offset = 0; offset < columnCount; offset++) {
+                Map<UUID, Location> cell = cells.get(key(row, (firstColumn + offset) % COLUMNS));
+                if (cell == null) {
+                    continue;
+                }
+                for (Location location : cell.values()) {
+                    double distance = distanceKm(latitude, longitude, location.latitude(), location.longitude());
+                    if (distance > radiusKm) {
+                        continue;
+                    }
+                    if (closest.size() < limit) {
+                        closest.add(new Hit(location.id(), distance));
+                    } else if (distance < closest.peek().distanceKm()) {
+                        closest.poll();
+                        closest.add(new Hit(location.id(), distance));
+                    }
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(closest);
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return hits;
+    }
+
+    /**
+     * The {@code k} nearest restaurants no further than {@code maxRadiusKm}.
+     * The search radius starts at one cell and doubles until {@code k} hits
+     * are found, which is exact: every restaurant closer than the k-th hit
+     * lies inside the searched circle.
+     */
+    public List<Hit> nearest(double latitude, double longitude, int k, double maxRadiusKm) {
+        double radiusKm = Math.min(CELL_DEGREES * KM_PER_DEGREE, maxRadiusKm);
+        while (true) {
+            List<Hit> hits = withinRadius(latitude, longitude, radiusKm, k);
+            if (hits.size() >= k || radiusKm >= maxRadiusKm) {
+                return hits;
+            }
+            radiusKm = Math.min(radiusKm * 2, maxRadiusKm);
+        }
+    }
+
+    static double distanceKm(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        double dLatitude = Math.toRadians(toLatitude - fromLatitude);
+        double dLongitude = Math.toRadians(toLongitude - fromLongitude);
+        double a = Math.pow(Math.sin(dLatitude / 2), 2)
+                + Math.cos(Math.toRadians(fromLatitude)) * Math.cos(Math.toRadians(toLatitude))
+                * Math.pow(Math.sin(dLongitude / 2), 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private void removeFromCell(Location location) {
+        cells.computeIfPresent(location.cell(), (cell, members) -> {
+            members.remove(location.id(), location);
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    private static long cellOf(double latitude, double longitude) {
+        return key(Math.min(ROWS - 1, row(latitude)), column(longitude));
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private static int column(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), COLUMNS);
+    }
+
+    private static long key(int row, int column) {
+        return (long) row * COLUMNS + column;
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.catalogservice.geo;
+
+import org.example.catalogservice.dto.CatalogChangeEvent;
+import org.example.catalogservice.dto.RestaurantLocation;
+import org.example.catalogservice.models.CatalogChange;
+import org.example.catalogservice.repositories.RestaurantsRepository;
+import org.example.catalogservice.services.CatalogChangesService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fills the {@link GeoIndex} from the database once the application is up,
+ * then keeps it current from the catalog change feed, so restaurants created
+ * through any instance become searchable on every instance.
+ * {@code RestaurantsService.create} also indexes its own creates on commit,
+ * so the creating instance does not wait for the next poll.
+ */
+@Component
+public class GeoIndexLoader implements DisposableBean {
+    private final RestaurantsRepository restaurantsRepository;
+    private final CatalogChangesService catalogChangesService;
+    private final GeoIndex geoIndex;
+    private final boolean followChanges;
+    private Disposable following;
+
+    public GeoIndexLoader(RestaurantsRepository restaurantsRepository,
+                          CatalogChangesService catalogChangesService,
+                          GeoIndex geoIndex,
+                          @Value("${catalog.changes.follow:true}") boolean followChanges) {
+        this.restaurantsRepository = restaurantsRepository;
+        this.catalogChangesService = catalogChangesService;
+        this.geoIndex = geoIndex;
+        this.followChanges = followChanges;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        // Taken before the load: changes after it are replayed, and putting a restaurant twice is harmless.
+        long head = catalogChangesService.settledHead();
+        for (RestaurantLocation location : restaurantsRepository.findAllLocations()) {
+            geoIndex.put(location.id(), location.latitude(), location.longitude());
+        }
+        if (followChanges) {
+            following = catalogChangesService.follow(head, this::apply);
+        }
+    }
+
+    private void apply(List<CatalogChangeEvent> changes) {
+        List<UUID> created = changes.stream()
+                .filter(change -> change.getType() == CatalogChange.Type.RESTAURANT_CREATED)
+                .map(CatalogChangeEvent::getRestaurantId)
+                .toList();
+        if (created.isEmpty()) {
+            return;
+        }
+        for (RestaurantLocation location : restaurantsRepository.findLocationsByIdIn(created)) {
+            geoIndex.put(location.id(), location.latitude(), location.longitude());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (following != null) {
+            following.dispose();
+        }
+    }
+}
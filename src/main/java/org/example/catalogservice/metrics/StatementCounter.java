@@ -0,0 +1,41 @@
+package org.example.catalogservice.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate hook that sees every SQL statement before it is prepared. Counts
+ * them globally and, between {@link #start()} and {@link #stop()}, for the
+ * current thread so a request's statement count can be attributed to it.
+ */
+public class StatementCounter implements StatementInspector {
+    private final ThreadLocal<int[]> current = new ThreadLocal<>();
+    private final Counter statements;
+
+    public StatementCounter(MeterRegistry meterRegistry) {
+        this.statements = Counter.builder("catalog.db.statements")
+                .description("SQL statements prepared by Hibernate")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        statements.increment();
+        int[] count = current.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public void start() {
+        current.set(new int[1]);
+    }
+
+    public int stop() {
+        int[] count = current.get();
+        current.remove();
+        return count == null ? 0 : count[0];
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.catalogservice.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One row of the catalog outbox, written in the same transaction as the
+ * mutation it describes. {@code seq} orders the feed and is what consumers
+ * resume from. Restaurant and item ids are plain columns rather than foreign
+ * keys, so the feed outlives the rows it mentions. {@code created_at} is
+ * stamped by the database, so every instance judges a gap's age by the same
+ * clock.
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "catalog_changes")
+public class CatalogChange {
+    public enum Type {
+        RESTAURANT_CREATED,
+        ITEM_ADDED,
+        ITEMS_ADDED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private Type type;
+    @Column(name = "restaurant_id", nullable = false)
+    private UUID restaurantId;
+    @Column(name = "item_id")
+    private UUID itemId;
+    // Left unset on the saved entity; reading it back would cost every mutation another select.
+    @ColumnDefault("current_timestamp")
+    @Column(name = "created_at", nullable = false, insertable = false, updatable = false)
+    private Instant createdAt;
+}
@@ -1,26 +1,85 @@
 package org.example.catalogservice.models;
 
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-@Data
-@Builder
-@AllArgsConstructor
-@NoArgsConstructor
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@ToString
 @Entity
-@Table(name = "food_items")
-public class Item {
+@Table(name = "food_items", uniqueConstraints = @UniqueConstraint(
+        name = Item.UNIQUE_NAME_PER_RESTAURANT, columnNames = {"restaurant_id", "name"}))
+public class Item implements Persistable<UUID> {
+    public static final String UNIQUE_NAME_PER_RESTAURANT = "uk_food_items_restaurant_name";
+    // Named here as well as in the changelog so H2 and Postgres report the same constraint.
+    public static final String RESTAURANT_FOREIGN_KEY = "fk_restaurant";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    @Setter(AccessLevel.NONE)
+    private UUID id;
     @Column(nullable = false)
     private String name;
     private String description;
     @Column(nullable = false)
     private Double price;
-    @ManyToOne
-    @JoinColumn(name = "restaurant_id", nullable = false)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "restaurant_id", nullable = false, foreignKey = @ForeignKey(name = RESTAURANT_FOREIGN_KEY))
+    @ToString.Exclude
     private Restaurant restaurant;
+    // The id is set before insert, so Spring Data cannot tell a new row by a null id.
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private boolean persisted;
+
+    // For Hibernate, which sets the loaded id itself; only the builder draws a new one.
+    protected Item() {
+    }
+
+    // The persisted flag is set by Hibernate, so the builder does not offer it.
+    @Builder
+    private Item(UUID id, String name, String description, Double price, Restaurant restaurant) {
+        this.id = id == null ? UUID.randomUUID() : id;
+        this.name = name;
+        this.description = description;
+        this.price = price;
+        this.restaurant = restaurant;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.persisted = true;
+    }
+
+    /**
+     * Identity is the id, assigned when the item is built, so the hash code
+     * spreads items across buckets and does not change on persist.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Item other && id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
 }
\ No newline at end of file
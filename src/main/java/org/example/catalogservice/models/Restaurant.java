@@ -1,29 +1,113 @@
 package org.example.catalogservice.models;
 
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import org.example.catalogservice.dto.Address;
+import org.example.catalogservice.utils.RestaurantFingerprint;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
 
-@Data
-@Builder
-@AllArgsConstructor
-@NoArgsConstructor
+@Getter
+@Setter
+@ToString
 @Entity
-@Table(name = "restaurants")
-public class Restaurant {
+@Table(name = "restaurants", uniqueConstraints = @UniqueConstraint(
+        name = Restaurant.UNIQUE_FINGERPRINT, columnNames = "address_fingerprint"), indexes = {
+        @Index(name = "idx_restaurants_city_key_id", columnList = "city_key, id"),
+        @Index(name = "idx_restaurants_locality_key_id", columnList = "locality_key, id"),
+        @Index(name = "idx_restaurants_zipcode_key_id", columnList = "zipcode_key, id")})
+public class Restaurant implements Persistable<UUID> {
+    public static final String UNIQUE_FINGERPRINT = "uk_restaurants_address_fingerprint";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    @Setter(AccessLevel.NONE)
+    private UUID id;
     @Column(nullable = false)
     private String name;
+    @JdbcTypeCode(SqlTypes.JSON)
     @Column(nullable = false)
     private Address address;
+    @Column(name = "address_fingerprint", nullable = false, length = 64)
+    private String addressFingerprint;
+    @Column(name = "city_key")
+    private String cityKey;
+    @Column(name = "locality_key")
+    private String localityKey;
+    @Column(name = "zipcode_key")
+    private String zipcodeKey;
+    private Double latitude;
+    private Double longitude;
 
     @OneToMany(mappedBy = "restaurant", cascade = CascadeType.ALL)
+    @ToString.Exclude
     private List<Item> items;
+    // The id is set before insert, so Spring Data cannot tell a new row by a null id.
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private boolean persisted;
+
+    // For Hibernate, which sets the loaded id itself; only the builder draws a new one.
+    protected Restaurant() {
+    }
+
+    // The address keys are derived on persist and the persisted flag by Hibernate, so the builder offers neither.
+    @Builder
+    private Restaurant(UUID id, String name, Address address, Double latitude, Double longitude, List<Item> items) {
+        this.id = id == null ? UUID.randomUUID() : id;
+        this.name = name;
+        this.address = address;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.items = items;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void computeAddressKeys() {
+        this.addressFingerprint = RestaurantFingerprint.of(name, address);
+        // Normalized copies of the filterable address fields, indexed together with id for keyset paging.
+        this.cityKey = address == null ? null : RestaurantFingerprint.normalizeOrNull(address.getCity());
+        this.localityKey = address == null ? null : RestaurantFingerprint.normalizeOrNull(address.getLocality());
+        this.zipcodeKey = address == null ? null : RestaurantFingerprint.normalizeOrNull(address.getZipcode());
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.persisted = true;
+    }
+
+    /**
+     * Identity is the id, assigned when the restaurant is built, so hashing
+     * never walks {@code items} (which would trigger a lazy load and recurse
+     * through each item) and never changes on persist.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Restaurant other && id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
 }
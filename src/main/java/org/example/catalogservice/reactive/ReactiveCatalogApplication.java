@@ -0,0 +1,48 @@
+package org.example.catalogservice.reactive;
+
+import org.example.catalogservice.configs.AppConfig;
+import org.example.catalogservice.configs.JwtConfig;
+import org.example.catalogservice.exceptions.GlobalExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.HttpHandlerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.error.ErrorWebFluxAutoConfiguration;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * The reactive reads as an application of their own: WebFlux on Netty, on
+ * {@code catalog.reactive.port}, started by {@link ReactiveCatalogLauncher}
+ * beside the servlet application. It cannot be a child of that context:
+ * WebFlux refuses to start under a Spring MVC configuration.
+ * <p>
+ * Only the WebFlux infrastructure, the reactive beans and what they share
+ * with the servlet application (users, JWT decoder, exception handler) are
+ * imported, so JPA, Liquibase and Tomcat stay out of it.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ImportAutoConfiguration({
+        PropertyPlaceholderAutoConfiguration.class,
+        JacksonAutoConfiguration.class,
+        CodecsAutoConfiguration.class,
+        HttpHandlerAutoConfiguration.class,
+        WebFluxAutoConfiguration.class,
+        ErrorWebFluxAutoConfiguration.class})
+@Import({AppConfig.class, JwtConfig.class, GlobalExceptionHandler.class,
+        ReactiveConfig.class, ReactiveSecurityConfig.class, ReactiveCatalogReader.class, ReactiveCatalogController.class})
+public class ReactiveCatalogApplication {
+
+    // Declared here rather than auto-configured: Tomcat is on the classpath too, and server.port is the servlet application's.
+    @Bean
+    public NettyReactiveWebServerFactory reactiveWebServerFactory(@Value("${catalog.reactive.port}") int port) {
+        return new NettyReactiveWebServerFactory(port);
+    }
+}
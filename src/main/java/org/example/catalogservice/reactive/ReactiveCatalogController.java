@@ -0,0 +1,52 @@
+package org.example.catalogservice.reactive;
+
+import lombok.RequiredArgsConstructor;
+
+import org.example.catalogservice.dto.ApiResponse;
+import org.example.catalogservice.dto.ItemResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.example.catalogservice.constants.Constants.FETCHED;
+
+/**
+ * Reactive variants of the catalog reads. The menu is streamed as NDJSON,
+ * one item per line, as rows arrive.
+ * <p>
+ * Served by WebFlux on Netty in {@link ReactiveCatalogApplication}, not by
+ * Tomcat: rows are read and written on the event loop, and a slow client only
+ * holds its own connection. {@code ReactiveReadsLoadTest} measures these
+ * against the blocking reads.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@RequestMapping("/reactive/restaurants")
+public class ReactiveCatalogController {
+    private final ReactiveCatalogReader reactiveCatalogReader;
+
+    @GetMapping("/{id}")
+    public Mono<ApiResponse> fetchById(@PathVariable(value = "id") UUID id) {
+        return this.reactiveCatalogReader.fetchRestaurant(id)
+                .map(restaurant -> ApiResponse.builder()
+                        .message(FETCHED)
+                        .status(HttpStatus.OK)
+                        .data(Map.of("restaurant", restaurant))
+                        .build());
+    }
+
+    @GetMapping(value = "/{restaurantId}/items", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ItemResponse> fetchAll(@PathVariable(name = "restaurantId") UUID restaurantId) {
+        return this.reactiveCatalogReader.fetchMenu(restaurantId);
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.catalogservice.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs {@link ReactiveCatalogApplication} next to the servlet application
+ * under the {@code reactive} profile. It gets the servlet application's
+ * command line and profiles, so it reads the same configuration; it starts
+ * after Tomcat and is stopped before it.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveCatalogLauncher implements SmartLifecycle {
+    private final Environment environment;
+    private final ApplicationArguments arguments;
+
+    private ConfigurableApplicationContext context;
+
+    @Override
+    public void start() {
+        this.context = new SpringApplicationBuilder(ReactiveCatalogApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .bannerMode(Banner.Mode.OFF)
+                .registerShutdownHook(false)
+                .profiles(this.environment.getActiveProfiles())
+                .run(this.arguments.getSourceArgs());
+    }
+
+    @Override
+    public void stop() {
+        if (this.context != null) {
+            this.context.close();
+            this.context = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.context != null && this.context.isActive();
+    }
+
+    /**
+     * The port Netty is listening on, which differs from
+     * {@code catalog.reactive.port} when that is 0.
+     */
+    public int port() {
+        return ((WebServerApplicationContext) this.context).getWebServer().getPort();
+    }
+}
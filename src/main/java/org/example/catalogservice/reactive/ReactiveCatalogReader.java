@@ -0,0 +1,77 @@
+package org.example.catalogservice.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.postgresql.codec.Json;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.example.catalogservice.dto.Address;
+import org.example.catalogservice.dto.ItemResponse;
+import org.example.catalogservice.dto.RestaurantResponse;
+import org.example.catalogservice.exceptions.RestaurantNotFoundException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Non-blocking reads of the catalog tables over R2DBC. Rows are mapped
+ * straight to the response DTOs; nothing here goes through JPA.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveCatalogReader {
+    private final DatabaseClient databaseClient;
+    private final ObjectMapper objectMapper;
+
+    public Mono<RestaurantResponse> fetchRestaurant(UUID restaurantId) {
+        return databaseClient.sql("select id, name, address from restaurants where id = :id")
+                .bind("id", restaurantId)
+                .map((row, metadata) -> toRestaurant(row))
+                .one()
+                .switchIfEmpty(Mono.error(() -> new RestaurantNotFoundException("Restaurant not found")));
+    }
+
+    public Flux<ItemResponse> fetchMenu(UUID restaurantId) {
+        Flux<ItemResponse> items = databaseClient
+                .sql("select id, name, description, price, restaurant_id from food_items where restaurant_id = :id")
+                .bind("id", restaurantId)
+                .map((row, metadata) -> toItem(row))
+                .all();
+        // Same contract as ItemsService.fetchAll: the existence check only runs for an empty menu.
+        return items.switchIfEmpty(databaseClient.sql("select 1 from restaurants where id = :id")
+                .bind("id", restaurantId)
+                .map((row, metadata) -> 1)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new RestaurantNotFoundException("Restaurant not found")))
+                .thenMany(Flux.empty()));
+    }
+
+    private RestaurantResponse toRestaurant(Row row) {
+        return new RestaurantResponse(
+                row.get("id", UUID.class),
+                row.get("name", String.class),
+                toAddress(row.get("address", Json.class)));
+    }
+
+    private ItemResponse toItem(Row row) {
+        return new ItemResponse(
+                row.get("id", UUID.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                row.get("restaurant_id", UUID.class),
+                row.get("price", Double.class));
+    }
+
+    private Address toAddress(Json json) {
+        try {
+            return objectMapper.readValue(json.asArray(), Address.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Stored address is not valid JSON", e);
+        }
+    }
+}
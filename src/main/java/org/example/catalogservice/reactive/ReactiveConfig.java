@@ -0,0 +1,50 @@
+package org.example.catalogservice.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * R2DBC access for {@link ReactiveCatalogApplication}.
+ * <p>
+ * The pool is deliberately not exposed as a {@code ConnectionFactory} bean:
+ * the reactive reads only need a {@code DatabaseClient}, and Boot's R2DBC
+ * auto-configuration stays excluded in {@code application.properties} so the
+ * servlet application, whose JDBC {@code DataSource} backs off when a
+ * {@code ConnectionFactory} exists, never builds one either.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfig implements DisposableBean {
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(@Value("${catalog.reactive.r2dbc.url}") String url,
+                                                 @Value("${catalog.reactive.r2dbc.username}") String username,
+                                                 @Value("${catalog.reactive.r2dbc.password}") String password,
+                                                 @Value("${catalog.reactive.r2dbc.max-size:20}") int maxSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options))
+                .maxSize(maxSize)
+                .build());
+        return DatabaseClient.create(this.connectionPool);
+    }
+
+    @Override
+    public void destroy() {
+        if (this.connectionPool != null) {
+            this.connectionPool.dispose();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.catalogservice.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Security of the reactive application, with the servlet application's
+ * credentials. A servlet session cannot be shared with Netty, so in the
+ * default mode callers send the form-login users' credentials as HTTP Basic
+ * on every request; under {@code stateless} they send the same bearer tokens,
+ * checked by {@link JwtDecoder} from {@code JwtConfig} and its cached key set.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+
+    @Bean
+    @Profile("!stateless")
+    public SecurityWebFilterChain reactiveSecurityWebFilterChain(ServerHttpSecurity http,
+                                                                 UserDetailsService userDetailsService,
+                                                                 PasswordEncoder passwordEncoder) {
+        // The users are held in memory, so the lookup does not block.
+        UserDetailsRepositoryReactiveAuthenticationManager authenticationManager =
+                new UserDetailsRepositoryReactiveAuthenticationManager(
+                        username -> Mono.fromCallable(() -> userDetailsService.loadUserByUsername(username)));
+        authenticationManager.setPasswordEncoder(passwordEncoder);
+
+        return authorize(http)
+                .httpBasic(basic -> basic.authenticationManager(authenticationManager))
+                .build();
+    }
+
+    @Bean
+    @Profile("stateless")
+    public SecurityWebFilterChain statelessReactiveSecurityWebFilterChain(ServerHttpSecurity http, JwtDecoder jwtDecoder) {
+        // A key set refresh blocks on the issuer, so decoding stays off the event loop.
+        ReactiveJwtDecoder reactiveJwtDecoder = token -> Mono.fromCallable(() -> jwtDecoder.decode(token))
+                .subscribeOn(Schedulers.boundedElastic());
+
+        return authorize(http)
+                .oauth2ResourceServer(resourceServer -> resourceServer.jwt(jwt -> jwt.jwtDecoder(reactiveJwtDecoder)))
+                .build();
+    }
+
+    private static ServerHttpSecurity authorize(ServerHttpSecurity http) {
+        return http
+                .authorizeExchange(exchange -> exchange.anyExchange().authenticated())
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .csrf(ServerHttpSecurity.CsrfSpec::disable);
+    }
+}
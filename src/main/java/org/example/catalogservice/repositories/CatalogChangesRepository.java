@@ -0,0 +1,22 @@
+package org.example.catalogservice.repositories;
+
+import org.example.catalogservice.models.CatalogChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface CatalogChangesRepository extends JpaRepository<CatalogChange, Long> {
+    List<CatalogChange> findBySeqGreaterThanOrderBySeqAsc(Long seq, Pageable pageable);
+
+    Optional<CatalogChange> findFirstByCreatedAtBeforeOrderBySeqDesc(Instant createdAt);
+
+    /**
+     * The database's clock, which stamps {@code created_at}.
+     */
+    @Query("select instant")
+    Instant currentTime();
+}
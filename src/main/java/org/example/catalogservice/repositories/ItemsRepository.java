@@ -1,13 +1,87 @@
 package org.example.catalogservice.repositories;
 
+import org.example.catalogservice.dto.ItemResponse;
+import org.example.catalogservice.dto.ItemSearchRow;
+import org.example.catalogservice.dto.ItemSummary;
 import org.example.catalogservice.models.Item;
-import org.example.catalogservice.models.Restaurant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-public interface ItemsRepository extends JpaRepository<Item, String> {
-    boolean existsByNameAndRestaurant(String name, Restaurant restaurant);
-    List<Item> findAllByRestaurant(Restaurant restaurant);
-    Optional<Item> findByNameAndRestaurant(String name, Restaurant restaurant);
-}
\ No newline at end of file
+import java.util.Set;
+import java.util.UUID;
+
+public interface ItemsRepository extends JpaRepository<Item, UUID> {
+    @Query("select new org.example.catalogservice.dto.ItemResponse(i.id, i.name, i.description, i.restaurant.id, i.price) " +
+            "from Item i where i.restaurant.id = :restaurantId")
+    List<ItemResponse> findMenuByRestaurantId(@Param("restaurantId") UUID restaurantId);
+
+    @Query("select i.id as id, i.name as name, i.restaurant.id as restaurantId, i.price as price " +
+            "from Item i where i.restaurant.id = :restaurantId")
+    List<ItemSummary> findMenuSummaryByRestaurantId(@Param("restaurantId") UUID restaurantId);
+
+    @Query("select new org.example.catalogservice.dto.ItemResponse(i.id, i.name, i.description, i.restaurant.id, i.price) " +
+            "from Item i where i.id = :id")
+    Optional<ItemResponse> findResponseById(@Param("id") UUID id);
+
+    @Query("select new org.example.catalogservice.dto.ItemResponse(i.id, i.name, i.description, i.restaurant.id, i.price) " +
+            "from Item i where i.restaurant.id = :restaurantId and i.id in :ids")
+    List<ItemResponse> findResponsesByRestaurantIdAndIdIn(@Param("restaurantId") UUID restaurantId,
+                                                          @Param("ids") Collection<UUID> ids);
+
+    /**
+     * The first {@code :candidates} items matching {@code :query}, in id order,
+     * as the CTE {@code candidates}. The first {@code :window} items by id are
+     * scanned for them first, which settles a broad query (a short prefix
+     * matching much of the table) without touching every match. Only when
+     * the window holds too few does the GIN index collect every match; the
+     * {@code offset 0} keeps the planner from walking the primary key instead,
+     * which would read the whole table for a rare prefix.
+     */
+    String SEARCH_CANDIDATES = "with q as (select to_tsquery('simple', :query) as q), " +
+            "window_matches as (" +
+            "select w.id from (select i.id, i.search_vector from food_items i order by i.id limit :window) w " +
+            "where w.search_vector @@ (select q from q) order by w.id limit :candidates), " +
+            "candidates as (" +
+            "select id from window_matches where (select count(*) from window_matches) = :candidates " +
+            "union all (" +
+            "select m.id from (select i.id from food_items i " +
+            "where i.search_vector @@ (select q from q) " +
+            "and (select count(*) from window_matches) < :candidates offset 0) m " +
+            "order by m.id limit :candidates)) ";
+
+    /**
+     * Ranked prefix search over names (weight A) and descriptions (weight B)
+     * using the GIN-indexed {@code search_vector} column. Only the
+     * {@link #SEARCH_CANDIDATES} are ranked.
+     */
+    @Query(value = SEARCH_CANDIDATES +
+            "select i.id as id, i.name as name, i.description as description, " +
+            "i.restaurant_id as \"restaurantId\", i.price as price, ts_rank(i.search_vector, q.q) as rank " +
+            "from candidates c join food_items i on i.id = c.id, q " +
+            "order by rank desc, i.id " +
+            "limit :limit", nativeQuery = true)
+    List<ItemSearchRow> search(@Param("query") String tsQuery, @Param("candidates") int candidates,
+                               @Param("window") int window, @Param("limit") int limit);
+
+    /**
+     * The page of {@link #search} after the row with the given rank and id.
+     */
+    @Query(value = SEARCH_CANDIDATES +
+            "select r.* from (" +
+            "select i.id as id, i.name as name, i.description as description, " +
+            "i.restaurant_id as \"restaurantId\", i.price as price, ts_rank(i.search_vector, q.q) as rank " +
+            "from candidates c join food_items i on i.id = c.id, q) r " +
+            "where r.rank < cast(:afterRank as real) or (r.rank = cast(:afterRank as real) and r.id > :afterId) " +
+            "order by r.rank desc, r.id " +
+            "limit :limit", nativeQuery = true)
+    List<ItemSearchRow> searchAfter(@Param("query") String tsQuery, @Param("candidates") int candidates,
+                                    @Param("window") int window, @Param("afterRank") float afterRank,
+                                    @Param("afterId") UUID afterId, @Param("limit") int limit);
+
+    @Query("select i.name from Item i where i.restaurant.id = :restaurantId and i.name in :names")
+    Set<String> findExistingNames(@Param("restaurantId") UUID restaurantId, @Param("names") Collection<String> names);
+}
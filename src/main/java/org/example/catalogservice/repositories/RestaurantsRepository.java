@@ -1,9 +1,57 @@
 package org.example.catalogservice.repositories;
 
-import org.example.catalogservice.dto.Address;
+import jakarta.persistence.QueryHint;
+import org.example.catalogservice.dto.CatalogExportRow;
+import org.example.catalogservice.dto.RestaurantLocation;
+import org.example.catalogservice.dto.RestaurantResponse;
+import org.example.catalogservice.dto.RestaurantSummary;
 import org.example.catalogservice.models.Restaurant;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface RestaurantsRepository extends JpaRepository<Restaurant, String> {
-    boolean existsByNameAndAddress(String name, Address address);
-}
\ No newline at end of file
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface RestaurantsRepository extends JpaRepository<Restaurant, UUID>, RestaurantsRepositoryCustom {
+    List<Restaurant> findAllByOrderByIdAsc(Pageable pageable);
+    List<Restaurant> findByIdGreaterThanOrderByIdAsc(UUID id, Pageable pageable);
+
+    @Query("select new org.example.catalogservice.dto.RestaurantSummary(r.id, r.name) " +
+            "from Restaurant r order by r.id")
+    List<RestaurantSummary> findSummaries(Pageable pageable);
+
+    @Query("select new org.example.catalogservice.dto.RestaurantSummary(r.id, r.name) " +
+            "from Restaurant r where r.id > :afterId order by r.id")
+    List<RestaurantSummary> findSummariesAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    @Query("select new org.example.catalogservice.dto.RestaurantResponse(r.id, r.name, r.address) " +
+            "from Restaurant r where r.id = :id")
+    Optional<RestaurantResponse> findResponseById(@Param("id") UUID id);
+
+    @Query("select new org.example.catalogservice.dto.RestaurantResponse(r.id, r.name, r.address) " +
+            "from Restaurant r where r.id in :ids")
+    List<RestaurantResponse> findResponsesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("select new org.example.catalogservice.dto.RestaurantLocation(r.id, r.latitude, r.longitude) " +
+            "from Restaurant r where r.latitude is not null and r.longitude is not null")
+    List<RestaurantLocation> findAllLocations();
+
+    @Query("select new org.example.catalogservice.dto.RestaurantLocation(r.id, r.latitude, r.longitude) " +
+            "from Restaurant r where r.id in :ids and r.latitude is not null and r.longitude is not null")
+    List<RestaurantLocation> findLocationsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new org.example.catalogservice.dto.CatalogExportRow(r.id, r.name, r.address, i.id, i.name, i.description, i.price) " +
+            "from Restaurant r left join r.items i order by r.id, i.id")
+    Stream<CatalogExportRow> streamCatalog();
+}
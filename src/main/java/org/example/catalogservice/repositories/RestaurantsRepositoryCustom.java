@@ -0,0 +1,21 @@
+package org.example.catalogservice.repositories;
+
+import org.example.catalogservice.dto.RestaurantFilter;
+import org.example.catalogservice.dto.RestaurantSummary;
+import org.example.catalogservice.models.Restaurant;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface RestaurantsRepositoryCustom {
+    /**
+     * One keyset page of restaurants matching every non-null field of the
+     * filter, which must already be normalized to the {@code *_key} form.
+     */
+    List<Restaurant> findPage(RestaurantFilter filter, UUID afterId, int limit);
+
+    /**
+     * {@link #findPage} selecting only id and name.
+     */
+    List<RestaurantSummary> findSummaryPage(RestaurantFilter filter, UUID afterId, int limit);
+}
@@ -0,0 +1,68 @@
+package org.example.catalogservice.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.example.catalogservice.dto.RestaurantFilter;
+import org.example.catalogservice.dto.RestaurantSummary;
+import org.example.catalogservice.models.Restaurant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Builds only the predicates that were asked for, so each filter
+ * combination is a plain equality on a {@code (*_key, id)} index followed by
+ * an id range scan.
+ */
+public class RestaurantsRepositoryCustomImpl implements RestaurantsRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Restaurant> findPage(RestaurantFilter filter, UUID afterId, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Restaurant> query = builder.createQuery(Restaurant.class);
+        Root<Restaurant> restaurant = query.from(Restaurant.class);
+
+        return page(query, restaurant, filter, afterId, limit);
+    }
+
+    @Override
+    public List<RestaurantSummary> findSummaryPage(RestaurantFilter filter, UUID afterId, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RestaurantSummary> query = builder.createQuery(RestaurantSummary.class);
+        Root<Restaurant> restaurant = query.from(Restaurant.class);
+        query.select(builder.construct(RestaurantSummary.class, restaurant.get("id"), restaurant.get("name")));
+
+        return page(query, restaurant, filter, afterId, limit);
+    }
+
+    private <T> List<T> page(CriteriaQuery<T> query, Root<Restaurant> restaurant,
+                             RestaurantFilter filter, UUID afterId, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getCity() != null) {
+            predicates.add(builder.equal(restaurant.get("cityKey"), filter.getCity()));
+        }
+        if (filter.getLocality() != null) {
+            predicates.add(builder.equal(restaurant.get("localityKey"), filter.getLocality()));
+        }
+        if (filter.getZipcode() != null) {
+            predicates.add(builder.equal(restaurant.get("zipcodeKey"), filter.getZipcode()));
+        }
+        if (afterId != null) {
+            predicates.add(builder.greaterThan(restaurant.<UUID>get("id"), afterId));
+        }
+        query.where(predicates.toArray(Predicate[]::new))
+                .orderBy(builder.asc(restaurant.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,246 @@
+package org.example.catalogservice.services;
+
+import org.example.catalogservice.dto.ApiResponse;
+import org.example.catalogservice.dto.CatalogChangeEvent;
+import org.example.catalogservice.models.CatalogChange;
+import org.example.catalogservice.repositories.CatalogChangesRepository;
+import org.example.catalogservice.utils.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.example.catalogservice.constants.Constants.FETCHED;
+import static org.example.catalogservice.constants.Constants.MAX_PAGE_SIZE;
+
+/**
+ * Feed of catalog mutations for downstream caches. Mutations append to the
+ * {@code catalog_changes} outbox inside their own transaction, so a change is
+ * visible exactly when it commits, and consumers resume from the last
+ * {@code seq} they saw.
+ * <p>
+ * Sequence values are taken at insert, not at commit, so seq 6 can become
+ * visible before seq 5 does. A read therefore stops at the first gap that is
+ * younger than the grace period; older gaps are values burnt by rolled-back
+ * transactions and are stepped over. Ages are measured on the database's
+ * clock, which also stamps each change, so skew between instances does not
+ * shorten or stretch the grace.
+ * <p>
+ * New changes are found by one poller shared by every subscriber on this
+ * instance. It re-reads the outbox every poll interval, and straight away
+ * when a change commits locally, so an idle feed costs one query per
+ * interval however many consumers are connected. A subscriber joins the
+ * poller and then reads its own backlog up to the present. Anything that
+ * commits in between arrives through the poller, and duplicates are dropped
+ * by {@code seq}.
+ */
+@Service
+public class CatalogChangesService {
+    private static final Duration HEARTBEAT = Duration.ofSeconds(15);
+    // A subscriber this far behind the poller is cut off; it resumes from its last seq.
+    // Reactive consumers see an overflow error, and an SSE stream ends so the client reconnects.
+    private static final int MAX_BUFFERED_BATCHES = 256;
+
+    private final CatalogChangesRepository catalogChangesRepository;
+    private final Duration pollInterval;
+    private final Duration gapGrace;
+    private final Sinks.Many<Long> commits = Sinks.many().multicast().directBestEffort();
+    private final Flux<List<CatalogChangeEvent>> live;
+
+    public CatalogChangesService(CatalogChangesRepository catalogChangesRepository,
+                                 @Value("${catalog.changes.poll-interval-ms:1000}") long pollIntervalMs,
+                                 @Value("${catalog.changes.gap-grace-ms:5000}") long gapGraceMs) {
+        this.catalogChangesRepository = catalogChangesRepository;
+        this.pollInterval = Duration.ofMillis(pollIntervalMs);
+        this.gapGrace = Duration.ofMillis(gapGraceMs);
+        this.live = Flux.defer(() -> {
+                    AtomicLong head = new AtomicLong(settledHead());
+                    return Flux.merge(commits.asFlux(), Flux.interval(pollInterval))
+                            .onBackpressureLatest()
+                            .concatMap(tick -> drain(head, MAX_PAGE_SIZE), 1)
+                            // A failed read must not end every subscriber's stream; retry from the same head.
+                            .retryWhen(Retry.fixedDelay(Long.MAX_VALUE, pollInterval));
+                })
+                .publish()
+                .refCount();
+    }
+
+    /**
+     * Appends a change to the outbox. Must run inside the mutation's
+     * transaction, so the two commit or roll back together.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(CatalogChange.Type type, UUID restaurantId, UUID itemId) {
+        CatalogChange change = catalogChangesRepository.save(CatalogChange.builder()
+                .type(type)
+                .restaurantId(restaurantId)
+                .itemId(itemId)
+                .build());
+        // A wake-up lost to a concurrent emit is picked up by the next poll.
+        AfterCommit.run(() -> commits.tryEmitNext(change.getSeq()));
+    }
+
+    /**
+     * Up to {@code limit} committed changes after {@code after}, in order.
+     */
+    public List<CatalogChangeEvent> read(long after, int limit) {
+        List<CatalogChange> rows = catalogChangesRepository.findBySeqGreaterThanOrderBySeqAsc(after, PageRequest.of(0, limit));
+        Instant settled = null;
+        List<CatalogChangeEvent> events = new ArrayList<>(rows.size());
+        long expected = after + 1;
+        for (CatalogChange row : rows) {
+            if (row.getSeq() != expected) {
+                // Gaps are rare, so the database's clock is only asked for once one turns up.
+                if (settled == null) {
+                    settled = catalogChangesRepository.currentTime().minus(gapGrace);
+                }
+                if (row.getCreatedAt().isAfter(settled)) {
+                    break;
+                }
+            }
+            events.add(new CatalogChangeEvent(row));
+            expected = row.getSeq() + 1;
+        }
+        return events;
+    }
+
+    /**
+     * Every change after {@code after} as non-empty batches of at most
+     * {@code limit}: the backlog first, then new changes as they commit.
+     * Never completes on its own.
+     */
+    public Flux<List<CatalogChangeEvent>> batches(long after, int limit) {
+        return Flux.defer(() -> {
+            // Join the poller before reading the backlog, buffering what it finds meanwhile.
+            Sinks.Many<List<CatalogChangeEvent>> updates = Sinks.many().unicast()
+                    .onBackpressureBuffer(Queues.<List<CatalogChangeEvent>>get(MAX_BUFFERED_BATCHES).get());
+            Disposable joined = live.subscribe(batch -> {
+                if (updates.tryEmitNext(batch).isFailure()) {
+                    updates.tryEmitError(Exceptions.failWithOverflow());
+                }
+            }, updates::tryEmitError);
+
+            AtomicLong cursor = new AtomicLong(after);
+            return Flux.concat(drain(new AtomicLong(after), limit), updates.asFlux())
+                    .doFinally(signal -> joined.dispose())
+                    .map(batch -> {
+                        List<CatalogChangeEvent> unseen = batch.stream()
+                                .filter(change -> change.getSeq() > cursor.get())
+                                .toList();
+                        if (!unseen.isEmpty()) {
+                            cursor.set(unseen.get(unseen.size() - 1).getSeq());
+                        }
+                        return unseen;
+                    })
+                    .filter(batch -> !batch.isEmpty());
+        });
+    }
+
+    /**
+     * Hands every change after {@code after} to {@code consumer}, in order and
+     * off the poller's thread, for consumers inside this instance that keep
+     * their own state in step with the feed. Unlike {@link #batches} it does
+     * not end when the consumer falls behind or throws: it resumes after the
+     * last batch the consumer accepted.
+     */
+    public Disposable follow(long after, Consumer<List<CatalogChangeEvent>> consumer) {
+        AtomicLong cursor = new AtomicLong(after);
+        return Flux.defer(() -> batches(cursor.get(), MAX_PAGE_SIZE))
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(batch -> {
+                    consumer.accept(batch);
+                    cursor.set(batch.get(batch.size() - 1).getSeq());
+                })
+                .retryWhen(Retry.fixedDelay(Long.MAX_VALUE, pollInterval))
+                .subscribe();
+    }
+
+    /**
+     * Long poll: the changes after {@code after}, waiting up to {@code wait}
+     * for the first one when there are none yet.
+     */
+    public Mono<ResponseEntity<ApiResponse>> poll(long after, int limit, Duration wait) {
+        Mono<List<CatalogChangeEvent>> changed = wait.isZero()
+                ? Mono.fromCallable(() -> read(after, limit)).subscribeOn(Schedulers.boundedElastic())
+                : batches(after, limit).next().timeout(wait, Mono.just(List.of()));
+        return changed
+                // Batches from the shared poller are not cut to the caller's limit.
+                .map(changes -> changes.size() > limit ? changes.subList(0, limit) : changes)
+                .map(changes -> {
+                    long lastSeq = changes.isEmpty() ? after : changes.get(changes.size() - 1).getSeq();
+                    ApiResponse response = ApiResponse.builder()
+                            .message(FETCHED)
+                            .status(HttpStatus.OK)
+                            .data(Map.of("changes", changes, "lastSeq", lastSeq))
+                            .build();
+                    return ResponseEntity.status(response.getStatus()).body(response);
+                });
+    }
+
+    /**
+     * The feed as server-sent events. Each event's id is its {@code seq}, so a
+     * reconnecting client's {@code Last-Event-ID} resumes where it stopped.
+     * A client that falls {@code MAX_BUFFERED_BATCHES} behind has its stream
+     * completed rather than failed, and reconnects the same way.
+     */
+    public Flux<ServerSentEvent<CatalogChangeEvent>> stream(long after) {
+        Flux<ServerSentEvent<CatalogChangeEvent>> changes = batches(after, MAX_PAGE_SIZE)
+                .onErrorResume(Exceptions::isOverflow, overflow -> Flux.empty())
+                .concatMapIterable(batch -> batch)
+                .map(change -> ServerSentEvent.builder(change)
+                        .id(Long.toString(change.getSeq()))
+                        .event(change.getType().name())
+                        .build());
+        // Comment lines keep proxies from closing a connection that is idle between changes.
+        Flux<ServerSentEvent<CatalogChangeEvent>> heartbeats = Flux.interval(HEARTBEAT)
+                .map(tick -> ServerSentEvent.<CatalogChangeEvent>builder().comment("keep-alive").build());
+        return changes.publish(shared -> Flux.merge(shared, heartbeats.takeUntilOther(shared.then())));
+    }
+
+    /**
+     * The newest change old enough that no earlier transaction can still be
+     * about to commit. The shared poller starts here, and so does a consumer
+     * that has just loaded current state from the tables.
+     */
+    public long settledHead() {
+        Instant settled = catalogChangesRepository.currentTime().minus(gapGrace);
+        return catalogChangesRepository.findFirstByCreatedAtBeforeOrderBySeqDesc(settled)
+                .map(CatalogChange::getSeq)
+                .orElse(0L);
+    }
+
+    private Flux<List<CatalogChangeEvent>> drain(AtomicLong cursor, int limit) {
+        // Keeps reading while batches come back full, so a backlog is not paced by the poll interval.
+        return Mono.fromCallable(() -> read(cursor.get(), limit))
+                .doOnNext(batch -> {
+                    if (!batch.isEmpty()) {
+                        cursor.set(batch.get(batch.size() - 1).getSeq());
+                    }
+                })
+                .repeat()
+                .takeUntil(batch -> batch.size() < limit)
+                .filter(batch -> !batch.isEmpty())
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
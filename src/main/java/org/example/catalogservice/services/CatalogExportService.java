@@ -0,0 +1,89 @@
+package org.example.catalogservice.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.catalogservice.dto.CatalogExportRow;
+import org.example.catalogservice.repositories.RestaurantsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Writes the whole catalog as newline-delimited JSON, one restaurant with its
+ * items per line. Rows are pulled from a server-side cursor and written
+ * straight to the output, so memory stays flat however large the catalog is
+ * and a slow reader simply blocks the cursor.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogExportService {
+    private static final int FLUSH_EVERY_RESTAURANTS = 100;
+
+    private final RestaurantsRepository restaurantsRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void export(OutputStream out) throws IOException {
+        try (Stream<CatalogExportRow> rows = restaurantsRepository.streamCatalog();
+             JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            UUID currentRestaurantId = null;
+            int restaurantsWritten = 0;
+            Iterator<CatalogExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                CatalogExportRow row = iterator.next();
+                if (!Objects.equals(row.getRestaurantId(), currentRestaurantId)) {
+                    if (currentRestaurantId != null) {
+                        endRestaurant(generator);
+                        if (++restaurantsWritten % FLUSH_EVERY_RESTAURANTS == 0) {
+                            generator.flush();
+                        }
+                    }
+                    startRestaurant(generator, row);
+                    currentRestaurantId = row.getRestaurantId();
+                }
+                if (row.getItemId() != null) {
+                    writeItem(generator, row);
+                }
+            }
+            if (currentRestaurantId != null) {
+                endRestaurant(generator);
+            }
+            generator.flush();
+        }
+    }
+
+    private void startRestaurant(JsonGenerator generator, CatalogExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", row.getRestaurantId().toString());
+        generator.writeStringField("name", row.getRestaurantName());
+        generator.writeObjectField("address", row.getAddress());
+        generator.writeArrayFieldStart("items");
+    }
+
+    private void writeItem(JsonGenerator generator, CatalogExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", row.getItemId().toString());
+        generator.writeStringField("name", row.getItemName());
+        if (row.getItemDescription() != null) {
+            generator.writeStringField("description", row.getItemDescription());
+        }
+        generator.writeNumberField("price", row.getItemPrice());
+        generator.writeEndObject();
+    }
+
+    private void endRestaurant(JsonGenerator generator) throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+}
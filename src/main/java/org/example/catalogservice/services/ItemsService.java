@@ -1,50 +1,82 @@
 package org.example.catalogservice.services;
 
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.example.catalogservice.cache.CatalogCache;
 import org.example.catalogservice.dto.ApiResponse;
+import org.example.catalogservice.dto.BulkItemRequest;
+import org.example.catalogservice.dto.BulkItemResult;
 import org.example.catalogservice.dto.ItemRequest;
 import org.example.catalogservice.dto.ItemResponse;
+import org.example.catalogservice.dto.ItemSearchRow;
+import org.example.catalogservice.dto.ItemSummary;
+import org.example.catalogservice.exceptions.ConstraintViolations;
 import org.example.catalogservice.exceptions.ItemAlreadyExistsException;
+import org.example.catalogservice.exceptions.InvalidSearchQueryException;
 import org.example.catalogservice.exceptions.ItemNotFoundException;
 import org.example.catalogservice.exceptions.RestaurantNotFoundException;
+import org.example.catalogservice.exceptions.TooManyItemsRequestedException;
+import org.example.catalogservice.models.CatalogChange;
 import org.example.catalogservice.models.Item;
 import org.example.catalogservice.models.Restaurant;
 import org.example.catalogservice.repositories.ItemsRepository;
 import org.example.catalogservice.repositories.RestaurantsRepository;
+import org.example.catalogservice.utils.AfterCommit;
+import org.example.catalogservice.utils.Fieldset;
+import org.example.catalogservice.utils.SearchCursor;
+import org.example.catalogservice.utils.SearchQuery;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
+import static org.example.catalogservice.constants.Constants.DEFAULT_PAGE_SIZE;
 import static org.example.catalogservice.constants.Constants.FETCHED;
+import static org.example.catalogservice.constants.Constants.ITEMS_ADDED;
 import static org.example.catalogservice.constants.Constants.ITEM_ADDED;
+import static org.example.catalogservice.constants.Constants.MAX_BATCH_ITEMS;
+import static org.example.catalogservice.constants.Constants.MAX_PAGE_SIZE;
+import static org.example.catalogservice.constants.Constants.MAX_SEARCH_RESULTS;
+import static org.example.catalogservice.constants.Constants.SEARCH_SCAN_WINDOW;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "catalog.service", histogram = true)
 public class ItemsService {
     private final ItemsRepository itemsRepository;
     private final RestaurantsRepository restaurantsRepository;
+    private final CatalogCache catalogCache;
+    private final CatalogChangesService catalogChangesService;
 
-    public ResponseEntity<ApiResponse> add(String restaurantId, ItemRequest request) {
-        Restaurant restaurant = restaurantsRepository.findById(restaurantId)
-                .orElseThrow(() -> new RestaurantNotFoundException("Restaurant not found"));
-
-        if (itemsRepository.existsByNameAndRestaurant(request.getName(), restaurant)) {
-            throw new ItemAlreadyExistsException("Item already exists in the given restaurant");
-        }
-
+    @Transactional
+    public ResponseEntity<ApiResponse> add(UUID restaurantId, ItemRequest request) {
         Item item = Item.builder()
                 .name(request.getName())
                 .description(request.getDescription())
                 .price(request.getPrice())
-                .restaurant(restaurant)
+                .restaurant(restaurantsRepository.getReferenceById(restaurantId))
                 .build();
 
-        itemsRepository.save(item);
+        // The schema enforces both the restaurant and the per-menu name uniqueness.
+        try {
+            itemsRepository.saveAndFlush(item);
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e);
+        }
+        catalogChangesService.record(CatalogChange.Type.ITEM_ADDED, restaurantId, item.getId());
+        AfterCommit.run(() -> catalogCache.evict(restaurantId));
 
         ApiResponse response = ApiResponse.builder()
                 .message(ITEM_ADDED)
@@ -55,15 +87,72 @@ public class ItemsService {
         return ResponseEntity.status(response.getStatus()).body(response);
     }
 
-    public ResponseEntity<ApiResponse> fetchAll(String restaurantId) {
-        Restaurant restaurant = restaurantsRepository.findById(restaurantId)
-                .orElseThrow(() -> new RestaurantNotFoundException("Restaurant not found"));
+    /**
+     * Adds a whole menu in one transaction: duplicates (against the stored
+     * menu and within the request) are found with a single set-based query
+     * and reported per row, the rest are inserted as one JDBC batch.
+     */
+    @Transactional
+    public ResponseEntity<ApiResponse> addAll(UUID restaurantId, BulkItemRequest request) {
+        if (!restaurantsRepository.existsById(restaurantId)) {
+            throw new RestaurantNotFoundException("Restaurant not found");
+        }
+        Restaurant restaurant = restaurantsRepository.getReferenceById(restaurantId);
+
+        List<String> names = request.getItems().stream().map(ItemRequest::getName).toList();
+        Set<String> seen = new HashSet<>(itemsRepository.findExistingNames(restaurantId, names));
+
+        List<Item> rows = new ArrayList<>(names.size());
+        List<Item> newItems = new ArrayList<>(names.size());
+        for (ItemRequest itemRequest : request.getItems()) {
+            if (!seen.add(itemRequest.getName())) {
+                rows.add(null);
+                continue;
+            }
+            Item item = Item.builder()
+                    .name(itemRequest.getName())
+                    .description(itemRequest.getDescription())
+                    .price(itemRequest.getPrice())
+                    .restaurant(restaurant)
+                    .build();
+            rows.add(item);
+            newItems.add(item);
+        }
+
+        try {
+            itemsRepository.saveAllAndFlush(newItems);
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e);
+        }
+        if (!newItems.isEmpty()) {
+            // One change per request: consumers refetch the menu, not the individual items.
+            catalogChangesService.record(CatalogChange.Type.ITEMS_ADDED, restaurantId, null);
+            AfterCommit.run(() -> catalogCache.evict(restaurantId));
+        }
+
+        List<BulkItemResult> results = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Item item = rows.get(i);
+            results.add(item == null
+                    ? new BulkItemResult(names.get(i), BulkItemResult.Status.DUPLICATE, null)
+                    : new BulkItemResult(item.getName(), BulkItemResult.Status.CREATED, item.getId()));
+        }
+
+        ApiResponse response = ApiResponse.builder()
+                .message(ITEMS_ADDED)
+                .status(newItems.isEmpty() ? HttpStatus.OK : HttpStatus.CREATED)
+                .data(Map.of("items", results))
+                .build();
+
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
 
-        List<Item> items = itemsRepository.findAllByRestaurant(restaurant);
-        List<ItemResponse> responses = new ArrayList<>();
+    public ResponseEntity<ApiResponse> fetchAll(UUID restaurantId) {
+        List<ItemResponse> responses = itemsRepository.findMenuByRestaurantId(restaurantId);
 
-        for (Item item : items) {
-            responses.add(new ItemResponse(item));
+        // Only an empty menu is ambiguous, so the existence check is paid just then.
+        if (responses.isEmpty() && !restaurantsRepository.existsById(restaurantId)) {
+            throw new RestaurantNotFoundException("Restaurant not found");
         }
 
         ApiResponse response = ApiResponse.builder()
@@ -75,17 +164,152 @@ public class ItemsService {
         return ResponseEntity.status(response.getStatus()).body(response);
     }
 
-    public ResponseEntity<ApiResponse> fetchById(String itemId) {
-        Item item = itemsRepository.findById(itemId)
+    /**
+     * The menu reduced to a parsed {@link Fieldset}. Unless the description is
+     * asked for, it is left out of the select as well as the response.
+     */
+    public ResponseEntity<ApiResponse> fetchAll(UUID restaurantId, List<String> fields) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        if (fields.contains("description")) {
+            for (ItemResponse item : itemsRepository.findMenuByRestaurantId(restaurantId)) {
+                rows.add(Fieldset.select(fields, field -> switch (field) {
+                    case "id" -> item.getId();
+                    case "name" -> item.getName();
+                    case "description" -> item.getDescription();
+                    case "restaurantId" -> item.getRestaurantId();
+                    case "price" -> item.getPrice();
+                    default -> throw new IllegalArgumentException(field);
+                }));
+            }
+        } else {
+            for (ItemSummary item : itemsRepository.findMenuSummaryByRestaurantId(restaurantId)) {
+                rows.add(Fieldset.select(fields, field -> switch (field) {
+                    case "id" -> item.getId();
+                    case "name" -> item.getName();
+                    case "restaurantId" -> item.getRestaurantId();
+                    case "price" -> item.getPrice();
+                    default -> throw new IllegalArgumentException(field);
+                }));
+            }
+        }
+
+        if (rows.isEmpty() && !restaurantsRepository.existsById(restaurantId)) {
+            throw new RestaurantNotFoundException("Restaurant not found");
+        }
+
+        ApiResponse response = ApiResponse.builder()
+                .message(FETCHED)
+                .status(HttpStatus.OK)
+                .data(Map.of("items", rows))
+                .build();
+
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    /**
+     * Resolves several items of one restaurant with a single query. Items come
+     * back in request order, ids that are unknown or belong to another
+     * restaurant are listed under {@code missing}.
+     */
+    public ResponseEntity<ApiResponse> fetchAllById(UUID restaurantId, List<UUID> itemIds) {
+        Set<UUID> ids = new LinkedHashSet<>(itemIds);
+        if (ids.size() > MAX_BATCH_ITEMS) {
+            throw new TooManyItemsRequestedException("Too many item ids requested");
+        }
+
+        Map<UUID, ItemResponse> found = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (ItemResponse item : itemsRepository.findResponsesByRestaurantIdAndIdIn(restaurantId, ids)) {
+                found.put(item.getId(), item);
+            }
+        }
+        List<ItemResponse> items = new ArrayList<>(found.size());
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : ids) {
+            ItemResponse item = found.get(id);
+            if (item == null) {
+                missing.add(id);
+            } else {
+                items.add(item);
+            }
+        }
+
+        ApiResponse response = ApiResponse.builder()
+                .message(FETCHED)
+                .status(HttpStatus.OK)
+                .data(Map.of("items", items, "missing", missing))
+                .build();
+
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    public ResponseEntity<ApiResponse> fetchById(UUID itemId) {
+        ItemResponse item = itemsRepository.findResponseById(itemId)
                 .orElseThrow(() -> new ItemNotFoundException("Item not found"));
 
         ApiResponse response = ApiResponse.builder()
                 .message(FETCHED)
                 .status(HttpStatus.OK)
-                .data(Map.of("item", new ItemResponse(item)))
+                .data(Map.of("item", item))
+                .build();
+
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    /**
+     * One page of ranked search results, best match first. Only the first
+     * {@value org.example.catalogservice.constants.Constants#MAX_SEARCH_RESULTS}
+     * matches in id order are ranked, so a broad query costs about as much as
+     * a narrow one; a query matching more than that ranks an arbitrary but
+     * stable subset and is better narrowed with more letters. Pages are keyed
+     * on the last row's rank and id.
+     */
+    public ResponseEntity<ApiResponse> search(String query, String cursor, Integer size) {
+        String tsQuery = SearchQuery.toPrefixTsQuery(query);
+        if (tsQuery.isEmpty()) {
+            throw new InvalidSearchQueryException("Search query has no words");
+        }
+        SearchCursor after = cursor == null ? null : SearchCursor.decode(cursor);
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // One extra row tells us whether another page exists without a count query.
+        List<ItemSearchRow> rows = after == null
+                ? itemsRepository.search(tsQuery, MAX_SEARCH_RESULTS, SEARCH_SCAN_WINDOW, pageSize + 1)
+                : itemsRepository.searchAfter(tsQuery, MAX_SEARCH_RESULTS, SEARCH_SCAN_WINDOW,
+                        after.rank(), after.lastId(), pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        List<ItemResponse> items = new ArrayList<>(rows.size());
+        for (ItemSearchRow row : rows) {
+            items.add(new ItemResponse(row.getId(), row.getName(), row.getDescription(), row.getRestaurantId(), row.getPrice()));
+        }
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("items", items);
+        if (hasNext) {
+            ItemSearchRow last = rows.get(rows.size() - 1);
+            data.put("nextCursor", new SearchCursor(last.getRank(), last.getId()).encode());
+        }
+
+        ApiResponse response = ApiResponse.builder()
+                .message(FETCHED)
+                .status(HttpStatus.OK)
+                .data(data)
                 .build();
 
         return ResponseEntity.status(response.getStatus()).body(response);
     }
 
+    private RuntimeException translate(DataIntegrityViolationException e) {
+        if (ConstraintViolations.isViolationOf(e, Item.UNIQUE_NAME_PER_RESTAURANT)) {
+            return new ItemAlreadyExistsException("Item already exists in the given restaurant");
+        }
+        if (ConstraintViolations.isViolationOf(e, Item.RESTAURANT_FOREIGN_KEY)) {
+            return new RestaurantNotFoundException("Restaurant not found");
+        }
+        return e;
+    }
 }
\ No newline at end of file
@@ -1,42 +1,84 @@
 package org.example.catalogservice.services;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 import org.example.catalogservice.dto.ApiResponse;
+import org.example.catalogservice.dto.NearbyRestaurant;
+import org.example.catalogservice.dto.RestaurantFilter;
 import org.example.catalogservice.dto.RestaurantRequest;
 import org.example.catalogservice.dto.RestaurantResponse;
+import org.example.catalogservice.dto.RestaurantSummary;
+import org.example.catalogservice.exceptions.ConstraintViolations;
+import org.example.catalogservice.exceptions.InvalidCoordinatesException;
 import org.example.catalogservice.exceptions.RestaurantAlreadyExistsException;
 import org.example.catalogservice.exceptions.RestaurantNotFoundException;
+import org.example.catalogservice.geo.GeoIndex;
+import org.example.catalogservice.models.CatalogChange;
 import org.example.catalogservice.models.Restaurant;
 import org.example.catalogservice.repositories.RestaurantsRepository;
+import org.example.catalogservice.utils.AfterCommit;
+import org.example.catalogservice.utils.CursorCodec;
+import org.example.catalogservice.utils.Fieldset;
+import org.example.catalogservice.utils.RestaurantFingerprint;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
+import static org.example.catalogservice.constants.Constants.DEFAULT_PAGE_SIZE;
 import static org.example.catalogservice.constants.Constants.FETCHED;
+import static org.example.catalogservice.constants.Constants.MAX_NEARBY_RADIUS_KM;
+import static org.example.catalogservice.constants.Constants.MAX_PAGE_SIZE;
 import static org.example.catalogservice.constants.Constants.RESTAURANT_CREATED;
 
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "catalog.service", histogram = true)
 public class RestaurantsService {
     private final RestaurantsRepository restaurantsRepository;
+    private final GeoIndex geoIndex;
+    private final CatalogChangesService catalogChangesService;
 
+    @Transactional
     public ResponseEntity<ApiResponse> create(RestaurantRequest request) {
-        if (restaurantsRepository.existsByNameAndAddress(request.getName(), request.getAddress())) {
-            throw new RestaurantAlreadyExistsException("Restaurant already exists");
+        if ((request.getLatitude() == null) != (request.getLongitude() == null)) {
+            throw new InvalidCoordinatesException("Latitude and longitude must be given together");
         }
-
         Restaurant restaurant = Restaurant.builder()
                 .name(request.getName())
                 .address(request.getAddress())
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
                 .build();
 
-        restaurant = restaurantsRepository.save(restaurant);
+        try {
+            restaurant = restaurantsRepository.saveAndFlush(restaurant);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, Restaurant.UNIQUE_FINGERPRINT)) {
+                throw new RestaurantAlreadyExistsException("Restaurant already exists");
+            }
+            throw e;
+        }
+        catalogChangesService.record(CatalogChange.Type.RESTAURANT_CREATED, restaurant.getId(), null);
+        if (restaurant.getLatitude() != null) {
+            UUID id = restaurant.getId();
+            double latitude = restaurant.getLatitude();
+            double longitude = restaurant.getLongitude();
+            // A rolled-back create must not leave a restaurant in the index.
+            AfterCommit.run(() -> geoIndex.put(id, latitude, longitude));
+        }
 
         RestaurantResponse restaurantResponse = new RestaurantResponse(restaurant);
 
@@ -49,33 +91,139 @@ public class RestaurantsService {
         return ResponseEntity.status(response.getStatus()).body(response);
     }
 
-    public ResponseEntity<ApiResponse> fetchAll() {
-        List<Restaurant> restaurants = restaurantsRepository.findAll();
-        List<RestaurantResponse> responses = new ArrayList<>();
+    public ResponseEntity<ApiResponse> fetchAll(String cursor, Integer size) {
+        return fetchAll(cursor, size, new RestaurantFilter());
+    }
+
+    public ResponseEntity<ApiResponse> fetchAll(String cursor, Integer size, RestaurantFilter filter) {
+        return fetchAll(cursor, size, filter, null);
+    }
+
+    /**
+     * One page of restaurants. {@code fields} is a parsed {@link Fieldset}
+     * ({@code null} for every field); when it leaves out the address, only id
+     * and name are selected.
+     */
+    public ResponseEntity<ApiResponse> fetchAll(String cursor, Integer size, RestaurantFilter filter, List<String> fields) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // One extra row tells us whether another page exists without a count query.
+        Pageable page = PageRequest.of(0, pageSize + 1);
+        UUID afterId = cursor == null ? null : CursorCodec.decode(cursor);
+        RestaurantFilter keys = RestaurantFilter.builder()
+                .city(RestaurantFingerprint.normalizeOrNull(filter.getCity()))
+                .locality(RestaurantFingerprint.normalizeOrNull(filter.getLocality()))
+                .zipcode(RestaurantFingerprint.normalizeOrNull(filter.getZipcode()))
+                .build();
+
+        boolean filtered = keys.getCity() != null || keys.getLocality() != null || keys.getZipcode() != null;
+
+        List<RestaurantResponse> restaurants = new ArrayList<>(pageSize + 1);
+        if (fields != null && !fields.contains("address")) {
+            List<RestaurantSummary> summaries;
+            if (filtered) {
+                summaries = restaurantsRepository.findSummaryPage(keys, afterId, pageSize + 1);
+            } else {
+                summaries = afterId == null
+                        ? restaurantsRepository.findSummaries(page)
+                        : restaurantsRepository.findSummariesAfter(afterId, page);
+            }
+            for (RestaurantSummary summary : summaries) {
+                restaurants.add(RestaurantResponse.builder().id(summary.id()).name(summary.name()).build());
+            }
+        } else {
+            List<Restaurant> entities;
+            if (filtered) {
+                entities = restaurantsRepository.findPage(keys, afterId, pageSize + 1);
+            } else {
+                entities = afterId == null
+                        ? restaurantsRepository.findAllByOrderByIdAsc(page)
+                        : restaurantsRepository.findByIdGreaterThanOrderByIdAsc(afterId, page);
+            }
+            for (Restaurant restaurant : entities) {
+                restaurants.add(new RestaurantResponse(restaurant));
+            }
+        }
+        boolean hasNext = restaurants.size() > pageSize;
+        if (hasNext) {
+            restaurants = restaurants.subList(0, pageSize);
+        }
 
-        for (Restaurant restaurant: restaurants) {
-            responses.add(new RestaurantResponse(restaurant));
+        Map<String, Object> data = new LinkedHashMap<>();
+        if (fields == null) {
+            data.put("restaurants", restaurants);
+        } else {
+            List<Map<String, Object>> rows = new ArrayList<>(restaurants.size());
+            for (RestaurantResponse restaurant : restaurants) {
+                rows.add(Fieldset.select(fields, field -> switch (field) {
+                    case "id" -> restaurant.getId();
+                    case "name" -> restaurant.getName();
+                    case "address" -> restaurant.getAddress();
+                    default -> throw new IllegalArgumentException(field);
+                }));
+            }
+            data.put("restaurants", rows);
+        }
+        if (hasNext) {
+            data.put("nextCursor", CursorCodec.encode(restaurants.get(restaurants.size() - 1).getId()));
         }
 
         ApiResponse response = ApiResponse.builder()
                 .message(FETCHED)
                 .status(HttpStatus.OK)
-                .data(Map.of("restaurants", responses))
+                .data(data)
                 .build();
 
         return ResponseEntity.status(response.getStatus()).body(response);
     }
 
-    public ResponseEntity<ApiResponse> fetchById(String id) {
-        Restaurant restaurant = restaurantsRepository.findById(id)
+    public ResponseEntity<ApiResponse> fetchById(UUID id) {
+        RestaurantResponse restaurant = restaurantsRepository.findResponseById(id)
                 .orElseThrow(() -> new RestaurantNotFoundException("Restaurant not found"));
 
         ApiResponse response = ApiResponse.builder()
                 .message(FETCHED)
                 .status(HttpStatus.OK)
-                .data(Map.of("restaurant", new RestaurantResponse(restaurant)))
+                .data(Map.of("restaurant", restaurant))
+                .build();
+
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    /**
+     * The {@code limit} (default {@code DEFAULT_PAGE_SIZE}) restaurants
+     * nearest a point, nearest first. {@code radiusKm} only narrows the search;
+     * it never lifts the limit, so a dense area still returns a bounded page.
+     */
+    public ResponseEntity<ApiResponse> fetchNearby(double latitude, double longitude, Double radiusKm, Integer limit) {
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new InvalidCoordinatesException("Coordinates out of range");
+        }
+        int k = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<GeoIndex.Hit> hits = radiusKm == null
+                ? geoIndex.nearest(latitude, longitude, k, MAX_NEARBY_RADIUS_KM)
+                : geoIndex.withinRadius(latitude, longitude, Math.max(0, Math.min(radiusKm, MAX_NEARBY_RADIUS_KM)), k);
+
+        Map<UUID, RestaurantResponse> restaurants = new HashMap<>();
+        if (!hits.isEmpty()) {
+            for (RestaurantResponse restaurant : restaurantsRepository.findResponsesByIdIn(
+                    hits.stream().map(GeoIndex.Hit::id).toList())) {
+                restaurants.put(restaurant.getId(), restaurant);
+            }
+        }
+        List<NearbyRestaurant> nearby = new ArrayList<>(hits.size());
+        for (GeoIndex.Hit hit : hits) {
+            RestaurantResponse restaurant = restaurants.get(hit.id());
+            if (restaurant != null) {
+                nearby.add(new NearbyRestaurant(restaurant.getId(), restaurant.getName(), restaurant.getAddress(), hit.distanceKm()));
+            }
+        }
+
+        ApiResponse response = ApiResponse.builder()
+                .message(FETCHED)
+                .status(HttpStatus.OK)
+                .data(Map.of("restaurants", nearby))
                 .build();
 
         return ResponseEntity.status(response.getStatus()).body(response);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package org.example.catalogservice.utils;
+
+import java.util.Locale;
+
+/**
+ * Reads an {@code Accept-Encoding} header. Only gzip is served, so this only
+ * answers whether a gzip-encoded body is acceptable.
+ */
+public final class AcceptEncoding {
+    private AcceptEncoding() {}
+
+    public static boolean acceptsGzip(String header) {
+        if (header == null || header.isBlank()) {
+            return false;
+        }
+        Boolean gzip = null;
+        boolean wildcard = false;
+        for (String element : header.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean acceptable = quality(parts) > 0;
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = acceptable;
+            } else if (coding.equals("*")) {
+                wildcard = acceptable;
+            }
+        }
+        // An explicit gzip entry (including gzip;q=0) overrides the wildcard.
+        return gzip != null ? gzip : wildcard;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
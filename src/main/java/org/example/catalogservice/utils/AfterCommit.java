@@ -0,0 +1,31 @@
+package org.example.catalogservice.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers side effects outside the database (cache evictions, in-memory
+ * indexes) until the surrounding transaction has committed. Run earlier, a
+ * concurrent read could reload the old rows and cache them again, and a
+ * rollback would leave the side effect behind.
+ */
+public final class AfterCommit {
+    private AfterCommit() {}
+
+    /**
+     * Runs {@code action} once the current transaction commits, and not at
+     * all if it rolls back. Without a transaction it runs straight away.
+     */
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
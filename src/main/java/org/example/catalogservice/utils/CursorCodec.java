@@ -0,0 +1,42 @@
+package org.example.catalogservice.utils;
+
+import org.example.catalogservice.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Encodes the keyset position of a listing into an opaque cursor so clients
+ * do not come to depend on the underlying sort key. The cursor is not signed:
+ * a client can still forge one, so the decoded id is checked to be a
+ * restaurant id before it reaches the keyset query.
+ */
+public final class CursorCodec {
+    private static final Pattern UUID_FORMAT =
+            Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    private CursorCodec() {}
+
+    public static String encode(UUID lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(lastId.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static UUID decode(String cursor) {
+        String lastId;
+        try {
+            lastId = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Cursor is not valid base64");
+        }
+        if (lastId.isBlank()) {
+            throw new InvalidCursorException("Cursor is empty");
+        }
+        if (!UUID_FORMAT.matcher(lastId).matches()) {
+            throw new InvalidCursorException("Cursor does not hold a restaurant id");
+        }
+        return UUID.fromString(lastId);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.catalogservice.utils;
+
+import org.example.catalogservice.exceptions.InvalidFieldsException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Sparse fieldsets: {@code fields=name,price} on a listing returns only those
+ * fields of each row. {@code id} is always included, since it is what rows
+ * are addressed and paged by.
+ */
+public final class Fieldset {
+    private Fieldset() {}
+
+    /**
+     * The requested fields in {@code allowed} order, so equal selections
+     * compare (and cache) equal. Returns {@code null} when no fields were
+     * given, or all of them were.
+     */
+    public static List<String> parse(String fields, List<String> allowed) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> requested = new HashSet<>();
+        requested.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new InvalidFieldsException("Unknown field: " + name);
+            }
+            requested.add(name);
+        }
+        if (requested.size() == allowed.size()) {
+            return null;
+        }
+        List<String> canonical = new ArrayList<>(requested.size());
+        for (String name : allowed) {
+            if (requested.contains(name)) {
+                canonical.add(name);
+            }
+        }
+        return canonical;
+    }
+
+    /**
+     * One row reduced to the given fields; {@code null} values are left out,
+     * as they are in the full DTOs' JSON.
+     */
+    public static Map<String, Object> select(List<String> fields, Function<String, Object> field) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String name : fields) {
+            Object value = field.apply(name);
+            if (value != null) {
+                row.put(name, value);
+            }
+        }
+        return row;
+    }
+}
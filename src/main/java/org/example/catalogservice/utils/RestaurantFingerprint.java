@@ -0,0 +1,88 @@
+package org.example.catalogservice.utils;
+
+import org.example.catalogservice.dto.Address;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Hashes a restaurant's name and address into a fixed-width key that is
+ * insensitive to case and whitespace, so duplicate detection is a single
+ * indexed equality instead of a comparison of every address field.
+ * <p>
+ * The changelog's {@code catalog_fingerprint} and {@code catalog_normalize}
+ * functions compute the same in SQL for the backfills. Only ASCII whitespace
+ * and letters are folded: beyond ASCII, Postgres' {@code \s} and
+ * {@code lower()} follow the database locale and cannot be matched here.
+ */
+public final class RestaurantFingerprint {
+    private static final String SEPARATOR = "|";
+
+    private RestaurantFingerprint() {}
+
+    /**
+     * A missing address hashes like one with every field empty, as a missing
+     * JSON key does in {@code catalog_fingerprint}.
+     */
+    public static String of(String name, Address address) {
+        if (address == null) {
+            address = new Address();
+        }
+        String key = String.join(SEPARATOR,
+                normalize(name),
+                address.getBuildingNumber() == null ? "" : address.getBuildingNumber().toString(),
+                normalize(address.getStreet()),
+                normalize(address.getLocality()),
+                normalize(address.getCity()),
+                normalize(address.getState()),
+                normalize(address.getCountry()),
+                normalize(address.getZipcode()));
+        return sha256Hex(key);
+    }
+
+    /**
+     * The case- and whitespace-insensitive form of a single field, or
+     * {@code null} when there is nothing left of it. Used for the
+     * {@code *_key} lookup columns.
+     */
+    public static String normalizeOrNull(String value) {
+        String normalized = normalize(value);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    /**
+     * Collapses runs of ASCII whitespace to one space, trims it and
+     * lower-cases ASCII letters, like {@code catalog_normalize}.
+     */
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(value.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r') {
+                pendingSpace = normalized.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+            normalized.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+        }
+        return normalized.toString();
+    }
+
+    private static String sha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
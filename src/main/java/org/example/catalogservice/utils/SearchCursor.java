@@ -0,0 +1,41 @@
+package org.example.catalogservice.utils;
+
+import org.example.catalogservice.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Keyset position in ranked search results: the rank and id of the last item
+ * returned. The rank travels as its exact float bits so the next page compares
+ * against the very value Postgres computed, and ties are not skipped or
+ * repeated. Like {@link CursorCodec}, the cursor is opaque but not signed.
+ */
+public record SearchCursor(float rank, UUID lastId) {
+    private static final Pattern FORMAT = Pattern.compile(
+            "[0-9a-f]{8}:[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    public String encode() {
+        String position = String.format("%08x:%s", Float.floatToIntBits(rank), lastId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String cursor) {
+        String position;
+        try {
+            position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Cursor is not valid base64");
+        }
+        if (!FORMAT.matcher(position).matches()) {
+            throw new InvalidCursorException("Cursor does not hold a search position");
+        }
+        float rank = Float.intBitsToFloat(Integer.parseUnsignedInt(position.substring(0, 8), 16));
+        if (!Float.isFinite(rank)) {
+            throw new InvalidCursorException("Cursor does not hold a search position");
+        }
+        return new SearchCursor(rank, UUID.fromString(position.substring(9)));
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.catalogservice.utils;
+
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns free text into a Postgres {@code to_tsquery} expression in which
+ * every word must match as a prefix ({@code "masala do"} becomes
+ * {@code "masala:* & do:*"}). Only letters, combining marks and digits
+ * survive, so user input can never inject tsquery operators.
+ * <p>
+ * Words shorter than {@link #MIN_PREFIX_LENGTH} must match whole: a one-letter
+ * prefix such as {@code a:*} matches most of the table and turns a ranked
+ * search into a scan of it.
+ */
+public final class SearchQuery {
+    // \p{M} keeps vowel signs and other combining marks inside their word (e.g. Devanagari).
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{M}\\p{N}]+");
+    private static final int MAX_TERMS = 8;
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    private SearchQuery() {}
+
+    /**
+     * @return the tsquery expression, or an empty string if the text has no searchable words
+     */
+    public static String toPrefixTsQuery(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringJoiner query = new StringJoiner(" & ");
+        Matcher words = WORD.matcher(text.toLowerCase(Locale.ROOT));
+        for (int terms = 0; terms < MAX_TERMS && words.find(); terms++) {
+            String word = words.group();
+            boolean prefix = word.codePointCount(0, word.length()) >= MIN_PREFIX_LENGTH;
+            query.add(prefix ? word + ":*" : word);
+        }
+        return query.toString();
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.catalogservice;
+
+import org.example.catalogservice.utils.AcceptEncoding;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AcceptEncodingTest {
+
+    @Test
+    void gzipIsAcceptedWhenListed() {
+        assertTrue(AcceptEncoding.acceptsGzip("gzip"));
+        assertTrue(AcceptEncoding.acceptsGzip("br, GZIP;q=0.8, deflate"));
+        assertTrue(AcceptEncoding.acceptsGzip("x-gzip"));
+        assertTrue(AcceptEncoding.acceptsGzip("*"));
+    }
+
+    @Test
+    void gzipIsRejectedWhenAbsentOrZeroQuality() {
+        assertFalse(AcceptEncoding.acceptsGzip(null));
+        assertFalse(AcceptEncoding.acceptsGzip(""));
+        assertFalse(AcceptEncoding.acceptsGzip("identity, br"));
+        assertFalse(AcceptEncoding.acceptsGzip("gzip;q=0"));
+        assertFalse(AcceptEncoding.acceptsGzip("*, gzip;q=0"));
+        assertFalse(AcceptEncoding.acceptsGzip("*;q=0"));
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.catalogservice;
+
+import org.example.catalogservice.dto.Address;
+import org.example.catalogservice.models.Restaurant;
+import org.example.catalogservice.repositories.RestaurantsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Saves restaurants through JPA on Postgres with the Liquibase schema, then
+ * recomputes their keys with the changelog's SQL functions from the jsonb
+ * address Hibernate wrote. Backfilled and newly written rows must agree, or
+ * the unique fingerprint stops catching duplicates.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.liquibase.enabled=true",
+        "spring.flyway.enabled=false"})
+@Import(PostgresTestConfig.class)
+@ActiveProfiles("test")
+class AddressKeysPostgresTest {
+    // Whitespace and letters Java and Postgres classify differently outside ASCII.
+    private static final List<String> VALUES = List.of(
+            "  MG \t Road\n", "MiXeD   CaSe", "MG Road", "　Chennai　", "a\u000Bb\fc\rd",
+            "\u001Cx\u001F", "line break", "ÉCOLE", "İstanbul", "ΟΔΟΣ", "STRASSE Straße", "");
+
+    @Autowired
+    private RestaurantsRepository restaurantsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanup() {
+        restaurantsRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void storedFingerprintsMatchTheChangelogFunction() {
+        saveRestaurants();
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT name, address_fingerprint, catalog_fingerprint(name, address) AS recomputed FROM restaurants");
+
+        assertThat(rows).hasSize(VALUES.size() + 1).allSatisfy(row ->
+                assertThat(row.get("recomputed")).as(String.valueOf(row.get("name"))).isEqualTo(row.get("address_fingerprint")));
+    }
+
+    @Test
+    void storedFilterKeysMatchTheChangelogBackfill() {
+        saveRestaurants();
+
+        // The expressions changeset 9 backfills existing rows with.
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                SELECT name, city_key, locality_key, zipcode_key,
+                       nullif(catalog_normalize(address->>'city'), '') AS city,
+                       nullif(catalog_normalize(address->>'locality'), '') AS locality,
+                       nullif(catalog_normalize(address->>'zipcode'), '') AS zipcode
+                FROM restaurants""");
+
+        assertThat(rows).hasSize(VALUES.size() + 1).allSatisfy(row -> {
+            String name = String.valueOf(row.get("name"));
+            assertThat(row.get("city")).as(name).isEqualTo(row.get("city_key"));
+            assertThat(row.get("locality")).as(name).isEqualTo(row.get("locality_key"));
+            assertThat(row.get("zipcode")).as(name).isEqualTo(row.get("zipcode_key"));
+        });
+    }
+
+    private void saveRestaurants() {
+        for (int i = 0; i < VALUES.size(); i++) {
+            String value = VALUES.get(i);
+            restaurantsRepository.save(Restaurant.builder()
+                    .name(value + i)
+                    .address(new Address(i + 1, value, value, value, value, value, value))
+                    .build());
+        }
+        restaurantsRepository.save(Restaurant.builder()
+                .name("no zipcode")
+                .address(new Address(1, "street", "locality", "city", "state", "country", null))
+                .build());
+    }
+}
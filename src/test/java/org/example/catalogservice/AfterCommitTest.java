@@ -0,0 +1,54 @@
+package org.example.catalogservice;
+
+import org.example.catalogservice.utils.AfterCommit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AfterCommitTest {
+
+    @AfterEach
+    void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void actionWaitsForCommit() {
+        AtomicInteger runs = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        AfterCommit.run(runs::incrementAndGet);
+        assertEquals(0, runs.get());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void actionIsDroppedOnRollback() {
+        AtomicInteger runs = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        AfterCommit.run(runs::incrementAndGet);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void actionRunsAtOnceWithoutTransaction() {
+        AtomicInteger runs = new AtomicInteger();
+
+        AfterCommit.run(runs::incrementAndGet);
+
+        assertEquals(1, runs.get());
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.catalogservice;
+
+import org.example.catalogservice.cache.CatalogCache;
+import org.example.catalogservice.cache.CatalogCacheInvalidator;
+import org.example.catalogservice.dto.CatalogChangeEvent;
+import org.example.catalogservice.models.CatalogChange;
+import org.example.catalogservice.services.CatalogChangesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+class CatalogCacheInvalidatorTest {
+    private static final UUID FIRST_ID = UUID.fromString("3f2b8c1e-0d4a-4b6f-9a7e-1c2d3e4f5a6b");
+    private static final UUID SECOND_ID = UUID.fromString("7a9e4d2c-5b1f-4e8a-b3c6-8d7e6f5a4b3c");
+
+    @Mock
+    private CatalogChangesService catalogChangesService;
+
+    @Mock
+    private CatalogCache catalogCache;
+
+    @BeforeEach
+    void setup() {
+        openMocks(this);
+        when(catalogChangesService.settledHead()).thenReturn(3L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void evictsEveryRestaurantInTheFeedOnce() {
+        new CatalogCacheInvalidator(catalogChangesService, catalogCache, true).start();
+
+        ArgumentCaptor<Consumer<List<CatalogChangeEvent>>> consumer = ArgumentCaptor.forClass(Consumer.class);
+        verify(catalogChangesService).follow(eq(3L), consumer.capture());
+        consumer.getValue().accept(List.of(
+                change(4, CatalogChange.Type.RESTAURANT_CREATED, FIRST_ID),
+                change(5, CatalogChange.Type.ITEM_ADDED, FIRST_ID),
+                change(6, CatalogChange.Type.ITEMS_ADDED, SECOND_ID)));
+
+        verify(catalogCache, times(1)).evict(FIRST_ID);
+        verify(catalogCache, times(1)).evict(SECOND_ID);
+    }
+
+    @Test
+    void doesNotFollowWhenDisabled() {
+        new CatalogCacheInvalidator(catalogChangesService, catalogCache, false).start();
+
+        verify(catalogChangesService, never()).follow(anyLong(), any());
+    }
+
+    private static CatalogChangeEvent change(long seq, CatalogChange.Type type, UUID restaurantId) {
+        return CatalogChangeEvent.builder().seq(seq).type(type).restaurantId(restaurantId).build();
+    }
+}
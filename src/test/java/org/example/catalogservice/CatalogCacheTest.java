@@ -0,0 +1,277 @@
+package org.example.catalogservice;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.catalogservice.cache.CatalogCache;
+import org.example.catalogservice.cache.RenderedResponse;
+import org.example.catalogservice.cache.WireFormat;
+import org.example.catalogservice.dto.ApiResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.example.catalogservice.constants.Constants.FETCHED;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogCacheTest {
+    private static final UUID RESTAURANT_ID = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+
+    private CatalogCache catalogCache;
+    private AtomicInteger loads;
+    private Supplier<ResponseEntity<ApiResponse>> loader;
+
+    @BeforeEach
+    void setup() {
+        catalogCache = new CatalogCache(new ObjectMapper().findAndRegisterModules(), 1024 * 1024, 60, 1024);
+        loads = new AtomicInteger();
+        loader = () -> {
+            loads.incrementAndGet();
+            ApiResponse response = ApiResponse.builder()
+                    .message(FETCHED)
+                    .status(HttpStatus.OK)
+                    .data(Map.of("items", "menu"))
+                    .build();
+            return ResponseEntity.ok(response);
+        };
+    }
+
+    @Test
+    public void testMenuIsRenderedOnceAndReplayed() {
+        RenderedResponse first = catalogCache.menu(RESTAURANT_ID, loader);
+        RenderedResponse second = catalogCache.menu(RESTAURANT_ID, loader);
+
+        assertEquals(1, loads.get());
+        assertEquals(HttpStatus.OK, second.getStatus());
+        assertTrue(new String(second.getBody(), StandardCharsets.UTF_8).contains("\"items\":\"menu\""));
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void testEvictForcesReload() {
+        catalogCache.menu(RESTAURANT_ID, loader);
+        catalogCache.evict(RESTAURANT_ID);
+        catalogCache.menu(RESTAURANT_ID, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testETagIsDerivedFromTheBody() {
+        String etag = catalogCache.menu(RESTAURANT_ID, loader).getEtag();
+        CatalogCache otherReplica = new CatalogCache(new ObjectMapper().findAndRegisterModules(), 1024 * 1024, 60, 1024);
+
+        assertEquals(etag, otherReplica.menu(RESTAURANT_ID, loader).getEtag());
+
+        catalogCache.evict(RESTAURANT_ID);
+        assertEquals(etag, catalogCache.menu(RESTAURANT_ID, loader).getEtag());
+
+        catalogCache.evict(RESTAURANT_ID);
+        assertNotEquals(etag, catalogCache.menu(RESTAURANT_ID, () -> ResponseEntity.ok(ApiResponse.builder()
+                .message(FETCHED)
+                .status(HttpStatus.OK)
+                .data(Map.of("items", "new menu"))
+                .build())).getEtag());
+    }
+
+    @Test
+    public void testDataChangedElsewhereGetsNewETagOnceReloaded() {
+        AtomicInteger version = new AtomicInteger();
+        Supplier<ResponseEntity<ApiResponse>> changing = () -> ResponseEntity.ok(ApiResponse.builder()
+                .message(FETCHED)
+                .status(HttpStatus.OK)
+                .data(Map.of("items", "menu " + version.get()))
+                .build());
+        String etag = catalogCache.menu(RESTAURANT_ID, changing).getEtag();
+
+        // Written on another replica: the change feed evicts it here.
+        version.incrementAndGet();
+        catalogCache.evict(RESTAURANT_ID);
+
+        assertNotEquals(etag, catalogCache.menu(RESTAURANT_ID, changing).getEtag());
+    }
+
+    @Test
+    public void testBinaryFormatIsTranscodedFromCachedJson() throws Exception {
+        RenderedResponse json = catalogCache.menu(RESTAURANT_ID, loader);
+        RenderedResponse cbor = catalogCache.menu(RESTAURANT_ID, WireFormat.CBOR, loader);
+
+        assertEquals(1, loads.get());
+        assertEquals(WireFormat.CBOR, cbor.getFormat());
+        assertEquals(HttpStatus.OK, cbor.getStatus());
+        assertTrue(cbor.getBody().length < json.getBody().length);
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertEquals(objectMapper.readTree(json.getBody()), new CBORMapper().readTree(cbor.getBody()));
+        assertSame(cbor, catalogCache.menu(RESTAURANT_ID, WireFormat.CBOR, loader));
+    }
+
+    @Test
+    public void testEachFormatHasItsOwnETagAndIsEvictedTogether() {
+        String jsonEtag = catalogCache.menu(RESTAURANT_ID, loader).getEtag();
+        RenderedResponse cbor = catalogCache.menu(RESTAURANT_ID, WireFormat.CBOR, loader);
+        RenderedResponse smile = catalogCache.menu(RESTAURANT_ID, WireFormat.SMILE, loader);
+
+        assertEquals(jsonEtag, catalogCache.menu(RESTAURANT_ID, WireFormat.JSON, loader).getEtag());
+        assertNotEquals(jsonEtag, cbor.getEtag());
+        assertNotEquals(cbor.getEtag(), smile.getEtag());
+
+        catalogCache.evict(RESTAURANT_ID);
+        RenderedResponse reloaded = catalogCache.menu(RESTAURANT_ID, WireFormat.CBOR, loader);
+
+        assertEquals(2, loads.get());
+        assertEquals(cbor.getEtag(), reloaded.getEtag());
+    }
+
+    @Test
+    public void testEvictDropsEveryFieldsetAndLeavesOtherRestaurants() {
+        UUID otherRestaurant = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        catalogCache.bindTo(meterRegistry);
+        catalogCache.menu(RESTAURANT_ID, loader);
+        catalogCache.menu(RESTAURANT_ID, WireFormat.JSON, List.of("id", "name"), loader);
+        catalogCache.menu(RESTAURANT_ID, WireFormat.CBOR, List.of("id", "name"), loader);
+        catalogCache.menu(otherRestaurant, loader);
+
+        catalogCache.evict(RESTAURANT_ID);
+
+        assertEquals(1, meterRegistry.get("cache.size").tag("cache", "catalog.menus").gauge().value());
+        catalogCache.menu(RESTAURANT_ID, WireFormat.JSON, List.of("id", "name"), loader);
+        catalogCache.menu(otherRestaurant, loader);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void testLargeBodiesAreGzippedOnceAndReused() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        catalogCache.bindTo(meterRegistry);
+        Supplier<ResponseEntity<ApiResponse>> largeLoader = () -> ResponseEntity.ok(ApiResponse.builder()
+                .message(FETCHED)
+                .status(HttpStatus.OK)
+                .data(Map.of("items", "dosa ".repeat(1000)))
+                .build());
+
+        RenderedResponse rendered = catalogCache.menu(RESTAURANT_ID, largeLoader);
+        ResponseEntity<byte[]> first = catalogCache.respond(rendered, true);
+        ResponseEntity<byte[]> second = catalogCache.respond(catalogCache.menu(RESTAURANT_ID, largeLoader), true);
+
+        assertEquals("gzip", first.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertSame(first.getBody(), second.getBody());
+        assertTrue(first.getBody().length < rendered.getBody().length);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(first.getBody()))) {
+            assertArrayEquals(rendered.getBody(), gzip.readAllBytes());
+        }
+        assertEquals(rendered.getEtag(true), first.getHeaders().getETag());
+        assertNotEquals(rendered.getEtag(), first.getHeaders().getETag());
+        assertEquals(1, meterRegistry.get("catalog.cache.compression").functionTimer().count());
+        assertEquals(2, meterRegistry.get("catalog.cache.compression.served").functionCounter().count());
+        assertEquals(2.0 * (rendered.getBody().length - first.getBody().length),
+                meterRegistry.get("catalog.cache.compression.saved").functionCounter().count());
+    }
+
+    @Test
+    public void testSmallBodiesAndClientsWithoutGzipGetThePlainBody() {
+        RenderedResponse rendered = catalogCache.menu(RESTAURANT_ID, loader);
+
+        ResponseEntity<byte[]> gzipClient = catalogCache.respond(rendered, true);
+        ResponseEntity<byte[]> plainClient = catalogCache.respond(rendered, false);
+
+        assertNull(rendered.getGzipBody());
+        assertNull(gzipClient.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertSame(rendered.getBody(), gzipClient.getBody());
+        assertEquals(rendered.getEtag(true), gzipClient.getHeaders().getETag());
+        assertEquals(rendered.getEtag(), plainClient.getHeaders().getETag());
+    }
+
+    @Test
+    public void testRestaurantsAreCachedPerId() {
+        catalogCache.restaurant(RESTAURANT_ID, loader);
+        catalogCache.restaurant(UUID.randomUUID(), loader);
+        catalogCache.restaurant(RESTAURANT_ID, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testConcurrentMissesShareOneLoad() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        catalogCache.bindTo(meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<ResponseEntity<ApiResponse>> slowLoader = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return loader.get();
+        };
+
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<RenderedResponse>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> catalogCache.menu(RESTAURANT_ID, slowLoader)));
+            }
+            FunctionCounter coalesced = meterRegistry.get("catalog.cache.coalesced").tag("cache", "catalog.menus").functionCounter();
+            while (coalesced.count() < callers - 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            RenderedResponse first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<RenderedResponse> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(1, meterRegistry.get("catalog.cache.loads").tag("cache", "catalog.menus").functionCounter().count());
+    }
+
+    @Test
+    public void testLoadRacingAnEvictIsNotCached() {
+        catalogCache.menu(RESTAURANT_ID, () -> {
+            catalogCache.evict(RESTAURANT_ID);
+            return loader.get();
+        });
+        catalogCache.menu(RESTAURANT_ID, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testLoaderFailureIsNotCached() {
+        assertThrows(IllegalStateException.class, () -> catalogCache.menu(RESTAURANT_ID, () -> {
+            throw new IllegalStateException("database down");
+        }));
+        catalogCache.menu(RESTAURANT_ID, loader);
+
+        assertEquals(1, loads.get());
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.catalogservice;
+
+import org.example.catalogservice.models.CatalogChange;
+import org.example.catalogservice.repositories.CatalogChangesRepository;
+import org.example.catalogservice.services.CatalogChangesService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Records changes on Postgres with the Liquibase schema, where
+ * {@code created_at} defaults to the database's clock. Gap grace compares
+ * that stamp with the same clock, so a change only settles once the
+ * database says it is old enough.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.liquibase.enabled=true",
+        "spring.flyway.enabled=false"})
+@Import(PostgresTestConfig.class)
+@ActiveProfiles("test")
+class CatalogChangesPostgresTest {
+    private static final UUID RESTAURANT_ID = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+
+    @Autowired
+    private CatalogChangesService catalogChangesService;
+
+    @Autowired
+    private CatalogChangesRepository catalogChangesRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanup() {
+        catalogChangesRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void theDatabaseStampsEachChange() {
+        Instant before = catalogChangesRepository.currentTime();
+        record();
+        Instant after = catalogChangesRepository.currentTime();
+
+        List<CatalogChange> changes = catalogChangesRepository.findAll();
+
+        assertThat(changes).singleElement()
+                .satisfies(change -> assertThat(change.getCreatedAt()).isBetween(before, after));
+    }
+
+    @Test
+    void aChangeSettlesOnceTheDatabaseClockPassesTheGrace() {
+        record();
+        long seq = catalogChangesRepository.findAll().get(0).getSeq();
+
+        assertThat(catalogChangesService.settledHead()).isLessThan(seq);
+
+        jdbcTemplate.update("UPDATE catalog_changes SET created_at = created_at - interval '1 minute'");
+
+        assertThat(catalogChangesService.settledHead()).isEqualTo(seq);
+    }
+
+    private void record() {
+        transactionTemplate.executeWithoutResult(status ->
+                catalogChangesService.record(CatalogChange.Type.RESTAURANT_CREATED, RESTAURANT_ID, null));
+    }
+}
@@ -0,0 +1,217 @@
+package org.example.catalogservice;
+
+import org.example.catalogservice.dto.ApiResponse;
+import org.example.catalogservice.dto.CatalogChangeEvent;
+import org.example.catalogservice.models.CatalogChange;
+import org.example.catalogservice.repositories.CatalogChangesRepository;
+import org.example.catalogservice.services.CatalogChangesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+class CatalogChangesServiceTest {
+    private static final UUID RESTAURANT_ID = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+
+    @Mock
+    private CatalogChangesRepository catalogChangesRepository;
+
+    private CatalogChangesService catalogChangesService;
+
+    @BeforeEach
+    void setup() {
+        openMocks(this);
+        when(catalogChangesRepository.currentTime()).thenAnswer(invocation -> Instant.now());
+        catalogChangesService = new CatalogChangesService(catalogChangesRepository, 20, 5000);
+    }
+
+    @Test
+    public void testReadStopsAtGapThatMayStillCommit() {
+        when(catalogChangesRepository.findBySeqGreaterThanOrderBySeqAsc(0L, PageRequest.of(0, 10)))
+                .thenReturn(List.of(change(1, Instant.now()), change(2, Instant.now()), change(4, Instant.now())));
+
+        assertEquals(List.of(1L, 2L), seqs(catalogChangesService.read(0, 10)));
+    }
+
+    @Test
+    public void testReadStepsOverSettledGap() {
+        Instant old = Instant.now().minusSeconds(60);
+        when(catalogChangesRepository.findBySeqGreaterThanOrderBySeqAsc(5L, PageRequest.of(0, 10)))
+                .thenReturn(List.of(change(7, old), change(8, Instant.now())));
+
+        assertEquals(List.of(7L, 8L), seqs(catalogChangesService.read(5, 10)));
+    }
+
+    @Test
+    public void testReadJudgesGapsByTheDatabaseClock() {
+        // The database runs a minute behind this instance, so a change it stamped just now is still young.
+        Instant databaseNow = Instant.now().minusSeconds(60);
+        when(catalogChangesRepository.currentTime()).thenReturn(databaseNow);
+        when(catalogChangesRepository.findBySeqGreaterThanOrderBySeqAsc(5L, PageRequest.of(0, 10)))
+                .thenReturn(List.of(change(6, databaseNow), change(8, databaseNow)));
+
+        assertEquals(List.of(6L), seqs(catalogChangesService.read(5, 10)));
+    }
+
+    @Test
+    public void testBatchesDrainFullPagesBeforeWaiting() {
+        when(catalogChangesRepository.findBySeqGreaterThanOrderBySeqAsc(eq(0L), any()))
+                .thenReturn(List.of(change(1, Instant.now()), change(2, Instant.now())));
+        when(catalogChangesRepository.findBySeqGreaterThanOrderBySeqAsc(eq(2L), any()))
+                .thenReturn(List.of(change(3, Instant.now())));
+
+        List<List<CatalogChangeEvent>> batches = catalogChangesService.batches(0, 2)
+                .take(2)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(List.of(1L, 2L), seqs(Objects.requireNonNull(batches).get(0)));
+        assertEquals(List.of(3L), seqs(batches.get(1)));
+    }
+
+    @Test
+    public void testSubscribersShareOnePoller() {
+        Disposable first = catalogChangesService.batches(0, 10).subscribe();
+        Disposable second = catalogChangesService.stream(0).subscribe();
+        try {
+            verify(catalogChangesRepository, times(1)).findFirstByCreatedAtBeforeOrderBySeqDesc(any());
+        } finally {
+            first.dispose();
+            second.dispose();
+        }
+    }
+
+    @Test
+    public void testLiveChangesReachSubscriberAfterItsBacklog() {
+        when(catalogChangesRepository.findFirstByCreatedAtBeforeOrderBySeqDesc(any()))
+                .thenReturn(Optional.of(change(1, Instant.now().minusSeconds(60))));
+        when(catalogChangesRepository.findBySeqGreaterThanOrderBySeqAsc(eq(0L), any()))
+                .thenReturn(List.of(change(1, Instant.now())));
+        when(catalogChangesRepository.findBySeqGreaterThanOrderBySeqAsc(eq(1L), any()))
+                .thenReturn(List.of(), List.of(change(2, Instant.now())));
+
+        List<List<CatalogChangeEvent>> batches = catalogChangesService.batches(0, 10)
+                .take(2)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(List.of(1L), seqs(Objects.requireNonNull(batches).get(0)));
+        assertEquals(List.of(2L), seqs(batches.get(1)));
+    }
+
+    @Test
+    public void testFollowResumesAfterTheLastAcceptedBatch() throws InterruptedException {
+        when(catalogChangesRepository.findBySeqGreaterThanOrderBySeqAsc(eq(0L), any()))
+                .thenReturn(List.of(change(1, Instant.now())));
+        when(catalogChangesRepository.findBySeqGreaterThanOrderBySeqAsc(eq(1L), any()))
+                .thenReturn(List.of(change(2, Instant.now())));
+        List<Long> accepted = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicBoolean failed = new AtomicBoolean();
+
+        Disposable following = catalogChangesService.follow(0, batch -> {
+            if (batch.get(0).getSeq() == 2 && !failed.getAndSet(true)) {
+                throw new IllegalStateException("consumer failed");
+            }
+            accepted.addAll(seqs(batch));
+            if (accepted.contains(2L)) {
+                done.countDown();
+            }
+        });
+        try {
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of(1L, 2L), accepted);
+        } finally {
+            following.dispose();
+        }
+    }
+
+    @Test
+    public void testStreamCompletesWhenSubscriberFallsTooFarBehind() {
+        CatalogChangesService service = new CatalogChangesService(catalogChangesRepository, 1, 5000);
+        when(catalogChangesRepository.findBySeqGreaterThanOrderBySeqAsc(anyLong(), any()))
+                .thenAnswer(invocation -> List.of(change((Long) invocation.getArgument(0) + 1, Instant.now())));
+        AtomicBoolean stalled = new AtomicBoolean();
+
+        List<ServerSentEvent<CatalogChangeEvent>> events = service.stream(0)
+                .doOnNext(event -> {
+                    // Stall on the first change while the poller finds one per millisecond.
+                    if (stalled.compareAndSet(false, true)) {
+                        sleep(Duration.ofSeconds(3));
+                    }
+                })
+                .collectList()
+                .block(Duration.ofSeconds(30));
+
+        assertTrue(Objects.requireNonNull(events).size() > 1);
+    }
+
+    @Test
+    public void testPollReturnsBacklogWithLastSeq() {
+        when(catalogChangesRepository.findBySeqGreaterThanOrderBySeqAsc(eq(0L), any()))
+                .thenReturn(List.of(change(1, Instant.now()), change(2, Instant.now())));
+
+        ResponseEntity<ApiResponse> response = catalogChangesService.poll(0, 10, Duration.ofSeconds(5))
+                .block(Duration.ofSeconds(5));
+
+        ApiResponse body = Objects.requireNonNull(Objects.requireNonNull(response).getBody());
+        assertEquals(2L, body.getData().get("lastSeq"));
+        assertEquals(2, ((List<?>) body.getData().get("changes")).size());
+    }
+
+    @Test
+    public void testPollWithoutChangesTimesOutEmpty() {
+        ResponseEntity<ApiResponse> response = catalogChangesService.poll(9, 10, Duration.ofMillis(100))
+                .block(Duration.ofSeconds(5));
+
+        ApiResponse body = Objects.requireNonNull(Objects.requireNonNull(response).getBody());
+        assertEquals(9L, body.getData().get("lastSeq"));
+        assertEquals(List.of(), body.getData().get("changes"));
+    }
+
+    private static CatalogChange change(long seq, Instant createdAt) {
+        return CatalogChange.builder()
+                .seq(seq)
+                .type(CatalogChange.Type.ITEM_ADDED)
+                .restaurantId(RESTAURANT_ID)
+                .itemId(new UUID(0, seq))
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<Long> seqs(List<CatalogChangeEvent> events) {
+        return events.stream().map(CatalogChangeEvent::getSeq).toList();
+    }
+}
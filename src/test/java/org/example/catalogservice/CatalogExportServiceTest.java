@@ -0,0 +1,79 @@
+package org.example.catalogservice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catalogservice.dto.Address;
+import org.example.catalogservice.dto.CatalogExportRow;
+import org.example.catalogservice.repositories.RestaurantsRepository;
+import org.example.catalogservice.services.CatalogExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+class CatalogExportServiceTest {
+    private static final UUID FIRST_ID = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+    private static final UUID SECOND_ID = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+
+    @Mock
+    private RestaurantsRepository restaurantsRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CatalogExportService catalogExportService;
+
+    @BeforeEach
+    void setup() {
+        openMocks(this);
+        catalogExportService = new CatalogExportService(restaurantsRepository, objectMapper);
+    }
+
+    @Test
+    public void testExportWritesOneLinePerRestaurantWithItsItems() throws Exception {
+        Address address = new Address(2, "street", "locality", "city", "state", "country", "600001");
+        when(restaurantsRepository.streamCatalog()).thenReturn(Stream.of(
+                new CatalogExportRow(FIRST_ID, "first", address, UUID.randomUUID(), "dosa", "crispy", 120.0),
+                new CatalogExportRow(FIRST_ID, "first", address, UUID.randomUUID(), "idli", null, 100.0),
+                new CatalogExportRow(SECOND_ID, "second", address, null, null, null, null)
+        ));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        catalogExportService.export(out);
+
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertTrue(body.endsWith("\n"));
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(FIRST_ID.toString(), first.get("id").asText());
+        assertEquals("city", first.get("address").get("city").asText());
+        assertEquals(2, first.get("items").size());
+        assertEquals("crispy", first.get("items").get(0).get("description").asText());
+        assertFalse(first.get("items").get(1).has("description"));
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals(SECOND_ID.toString(), second.get("id").asText());
+        assertEquals(0, second.get("items").size());
+    }
+
+    @Test
+    public void testExportOfEmptyCatalogWritesNothing() throws Exception {
+        when(restaurantsRepository.streamCatalog()).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        catalogExportService.export(out);
+
+        assertEquals(0, out.size());
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.catalogservice;
+
+import org.example.catalogservice.filters.ConcurrencyLimitFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.example.catalogservice.constants.Constants.TOO_MANY_REQUESTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConcurrencyLimitFilterTest {
+
+    @Test
+    void releasesThePermitAfterEachRequest() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, 10);
+
+        for (int i = 0; i < 2; i++) {
+            MockFilterChain chain = new MockFilterChain();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/restaurants"), response, chain);
+
+            assertNotNull(chain.getRequest());
+            assertEquals(200, response.getStatus());
+        }
+    }
+
+    @Test
+    void shedsWithoutAnErrorDispatch() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(0, 10);
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/restaurants"), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(503, response.getStatus());
+        assertEquals(TOO_MANY_REQUESTS, response.getContentAsString());
+        assertNull(response.getErrorMessage());
+    }
+}
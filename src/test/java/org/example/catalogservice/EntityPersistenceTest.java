@@ -0,0 +1,68 @@
+package org.example.catalogservice;
+
+import org.example.catalogservice.dto.Address;
+import org.example.catalogservice.models.Item;
+import org.example.catalogservice.models.Restaurant;
+import org.example.catalogservice.repositories.ItemsRepository;
+import org.example.catalogservice.repositories.RestaurantsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Entities carry their id from the builder on, so saving must still insert
+ * them as new rows rather than merge them, and the id must not change.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EntityPersistenceTest {
+    @Autowired
+    private RestaurantsRepository restaurantsRepository;
+
+    @Autowired
+    private ItemsRepository itemsRepository;
+
+    @AfterEach
+    void cleanup() {
+        itemsRepository.deleteAllInBatch();
+        restaurantsRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void savingABuiltEntityPersistsItUnderItsOwnId() {
+        Restaurant restaurant = Restaurant.builder()
+                .name("restaurant")
+                .address(new Address(1, "street", "locality", "city", "state", "country", "600001"))
+                .build();
+        UUID id = restaurant.getId();
+        int hashCode = restaurant.hashCode();
+
+        // A merge would return a managed copy; persist keeps the instance.
+        assertThat(restaurantsRepository.save(restaurant)).isSameAs(restaurant);
+        assertThat(restaurant.getId()).isEqualTo(id);
+        assertThat(restaurant.hashCode()).isEqualTo(hashCode);
+        assertThat(restaurant.isNew()).isFalse();
+
+        Item item = itemsRepository.save(Item.builder().name("dosa").price(120.0).restaurant(restaurant).build());
+        assertThat(item.isNew()).isFalse();
+    }
+
+    @Test
+    void loadedEntitiesAreNotNew() {
+        Restaurant restaurant = restaurantsRepository.save(Restaurant.builder()
+                .name("restaurant")
+                .address(new Address(1, "street", "locality", "city", "state", "country", "600001"))
+                .build());
+
+        Restaurant loaded = restaurantsRepository.findById(restaurant.getId()).orElseThrow();
+
+        assertThat(loaded.isNew()).isFalse();
+        assertThat(loaded).isEqualTo(restaurant).hasSameHashCodeAs(restaurant);
+    }
+}
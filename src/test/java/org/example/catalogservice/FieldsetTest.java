@@ -0,0 +1,51 @@
+package org.example.catalogservice;
+
+import org.example.catalogservice.exceptions.InvalidFieldsException;
+import org.example.catalogservice.utils.Fieldset;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.example.catalogservice.constants.Constants.ITEM_FIELDS;
+import static org.example.catalogservice.constants.Constants.RESTAURANT_FIELDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FieldsetTest {
+
+    @Test
+    void fieldsAreCanonicalisedAndAlwaysIncludeId() {
+        assertEquals(List.of("id", "name", "price"), Fieldset.parse("price, name", ITEM_FIELDS));
+        assertEquals(List.of("id", "name", "price"), Fieldset.parse("name,price,name,", ITEM_FIELDS));
+        assertEquals(List.of("id"), Fieldset.parse("id", RESTAURANT_FIELDS));
+    }
+
+    @Test
+    void absentOrCompleteFieldsetMeansFullRows() {
+        assertNull(Fieldset.parse(null, ITEM_FIELDS));
+        assertNull(Fieldset.parse(" ", ITEM_FIELDS));
+        assertNull(Fieldset.parse("name,address", RESTAURANT_FIELDS));
+    }
+
+    @Test
+    void unknownFieldIsRejected() {
+        assertThrows(InvalidFieldsException.class, () -> Fieldset.parse("name,secret", ITEM_FIELDS));
+        assertThrows(InvalidFieldsException.class, () -> Fieldset.parse("price", RESTAURANT_FIELDS));
+    }
+
+    @Test
+    void selectKeepsFieldOrderAndSkipsNulls() {
+        Map<String, Object> source = new HashMap<>();
+        source.put("id", "1");
+        source.put("price", 120.0);
+        source.put("name", null);
+
+        Map<String, Object> row = Fieldset.select(List.of("id", "name", "price"), source::get);
+
+        assertEquals(List.of("id", "price"), List.copyOf(row.keySet()));
+        assertEquals(120.0, row.get("price"));
+    }
+}
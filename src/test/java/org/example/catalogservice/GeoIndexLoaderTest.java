@@ -0,0 +1,79 @@
+package org.example.catalogservice;
+
+import org.example.catalogservice.dto.CatalogChangeEvent;
+import org.example.catalogservice.dto.RestaurantLocation;
+import org.example.catalogservice.geo.GeoIndex;
+import org.example.catalogservice.geo.GeoIndexLoader;
+import org.example.catalogservice.models.CatalogChange;
+import org.example.catalogservice.repositories.RestaurantsRepository;
+import org.example.catalogservice.services.CatalogChangesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+class GeoIndexLoaderTest {
+    private static final UUID LOADED_ID = UUID.fromString("3f2b8c1e-0d4a-4b6f-9a7e-1c2d3e4f5a6b");
+    private static final UUID CREATED_ID = UUID.fromString("7a9e4d2c-5b1f-4e8a-b3c6-8d7e6f5a4b3c");
+
+    @Mock
+    private RestaurantsRepository restaurantsRepository;
+
+    @Mock
+    private CatalogChangesService catalogChangesService;
+
+    private GeoIndex geoIndex;
+
+    @BeforeEach
+    void setup() {
+        openMocks(this);
+        geoIndex = new GeoIndex();
+        when(catalogChangesService.settledHead()).thenReturn(7L);
+        when(restaurantsRepository.findAllLocations()).thenReturn(List.of(new RestaurantLocation(LOADED_ID, 13.08, 80.27)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void indexesRestaurantsCreatedElsewhereFromTheFeed() {
+        GeoIndexLoader loader = new GeoIndexLoader(restaurantsRepository, catalogChangesService, geoIndex, true);
+        loader.load();
+
+        ArgumentCaptor<Consumer<List<CatalogChangeEvent>>> consumer = ArgumentCaptor.forClass(Consumer.class);
+        verify(catalogChangesService).follow(eq(7L), consumer.capture());
+        when(restaurantsRepository.findLocationsByIdIn(List.of(CREATED_ID)))
+                .thenReturn(List.of(new RestaurantLocation(CREATED_ID, 13.01, 80.25)));
+
+        consumer.getValue().accept(List.of(
+                change(8, CatalogChange.Type.ITEM_ADDED, LOADED_ID),
+                change(9, CatalogChange.Type.RESTAURANT_CREATED, CREATED_ID)));
+
+        assertEquals(2, geoIndex.size());
+        assertEquals(CREATED_ID, geoIndex.nearest(13.01, 80.25, 1, 1).get(0).id());
+    }
+
+    @Test
+    void loadsWithoutFollowingWhenDisabled() {
+        GeoIndexLoader loader = new GeoIndexLoader(restaurantsRepository, catalogChangesService, geoIndex, false);
+        loader.load();
+
+        assertEquals(1, geoIndex.size());
+        verify(catalogChangesService, never()).follow(anyLong(), any());
+    }
+
+    private static CatalogChangeEvent change(long seq, CatalogChange.Type type, UUID restaurantId) {
+        return CatalogChangeEvent.builder().seq(seq).type(type).restaurantId(restaurantId).build();
+    }
+}
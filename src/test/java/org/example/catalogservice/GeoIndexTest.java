@@ -0,0 +1,106 @@
+package org.example.catalogservice;
+
+import org.example.catalogservice.geo.GeoIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoIndexTest {
+    // Chennai Central, ~2 km from Egmore and ~9 km from Adyar
+    private static final double LAT = 13.0827;
+    private static final double LON = 80.2757;
+
+    private static final UUID EGMORE = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID ADYAR = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID BENGALURU = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID FIJI_EAST = UUID.fromString("00000000-0000-0000-0000-000000000004");
+    private static final UUID FIJI_WEST = UUID.fromString("00000000-0000-0000-0000-000000000005");
+
+    private GeoIndex geoIndex;
+
+    @BeforeEach
+    void setUp() {
+        geoIndex = new GeoIndex();
+        geoIndex.put(EGMORE, 13.0732, 80.2609);
+        geoIndex.put(ADYAR, 13.0012, 80.2565);
+        geoIndex.put(BENGALURU, 12.9716, 77.5946);
+    }
+
+    @Test
+    void radiusQueryReturnsOnlyRestaurantsInsideTheCircleNearestFirst() {
+        List<GeoIndex.Hit> hits = geoIndex.withinRadius(LAT, LON, 10, 10);
+
+        assertThat(hits).extracting(GeoIndex.Hit::id).containsExactly(EGMORE, ADYAR);
+        assertThat(hits.get(0).distanceKm()).isBetween(1.5, 2.0);
+        assertThat(hits.get(1).distanceKm()).isBetween(9.0, 9.5);
+    }
+
+    @Test
+    void radiusQueryHonoursTheLimit() {
+        assertThat(geoIndex.withinRadius(LAT, LON, 10, 1)).extracting(GeoIndex.Hit::id).containsExactly(EGMORE);
+    }
+
+    @Test
+    void nearestWidensTheSearchUntilEnoughRestaurantsAreFound() {
+        assertThat(geoIndex.nearest(LAT, LON, 2, 50)).extracting(GeoIndex.Hit::id).containsExactly(EGMORE, ADYAR);
+        assertThat(geoIndex.nearest(LAT, LON, 3, 50)).hasSize(2);
+        assertThat(geoIndex.nearest(LAT, LON, 3, 500)).extracting(GeoIndex.Hit::id)
+                .containsExactly(EGMORE, ADYAR, BENGALURU);
+    }
+
+    @Test
+    void movingARestaurantReindexesIt() {
+        geoIndex.put(ADYAR, 12.9716, 77.5946);
+
+        assertThat(geoIndex.withinRadius(LAT, LON, 10, 10)).extracting(GeoIndex.Hit::id).containsExactly(EGMORE);
+        assertThat(geoIndex.size()).isEqualTo(3);
+
+        geoIndex.remove(EGMORE);
+
+        assertThat(geoIndex.withinRadius(LAT, LON, 10, 10)).isEmpty();
+    }
+
+    @Test
+    void searchesAcrossTheAntimeridian() {
+        geoIndex.put(FIJI_EAST, -17.0, 179.99);
+        geoIndex.put(FIJI_WEST, -17.0, -179.99);
+
+        assertThat(geoIndex.withinRadius(-17.0, 179.999, 5, 10)).extracting(GeoIndex.Hit::id)
+                .containsExactlyInAnyOrder(FIJI_EAST, FIJI_WEST);
+    }
+
+    @Test
+    void matchesABruteForceScan() {
+        Random random = new Random(42);
+        GeoIndex index = new GeoIndex();
+        double[][] points = new double[5000][];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new double[]{12.5 + random.nextDouble(), 79.8 + random.nextDouble()};
+            index.put(new UUID(0, i), points[i][0], points[i][1]);
+        }
+
+        List<GeoIndex.Hit> hits = index.withinRadius(13.0, 80.3, 7.5, points.length);
+
+        long expected = 0;
+        for (double[] point : points) {
+            if (haversineKm(13.0, 80.3, point[0], point[1]) <= 7.5) {
+                expected++;
+            }
+        }
+        assertThat(hits).hasSize((int) expected);
+        assertThat(hits).isSortedAccordingTo((a, b) -> Double.compare(a.distanceKm(), b.distanceKm()));
+    }
+
+    private static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * 6371.0088 * Math.asin(Math.sqrt(a));
+    }
+}
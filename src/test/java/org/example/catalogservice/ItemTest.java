@@ -6,22 +6,25 @@ import org.example.catalogservice.models.Restaurant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class ItemTest {
+    private static final UUID ITEM_ID = UUID.fromString("00000000-0000-0000-0000-0000000000b1");
 
     private Item item;
 
     @BeforeEach
     void setUp() {
         Restaurant restaurant = Restaurant.builder()
-                .id("restaurant-id")
+                .id(UUID.randomUUID())
                 .name("Test Restaurant")
                 .address(new Address())
                 .build();
 
         item = Item.builder()
-                .id("item-id")
+                .id(ITEM_ID)
                 .name("Test Item")
                 .description("Test Description")
                 .price(9.99)
@@ -31,7 +34,7 @@ class ItemTest {
 
     @Test
     void testItemCreation() {
-        assertThat(item.getId()).isEqualTo("item-id");
+        assertThat(item.getId()).isEqualTo(ITEM_ID);
         assertThat(item.getName()).isEqualTo("Test Item");
         assertThat(item.getDescription()).isEqualTo("Test Description");
         assertThat(item.getPrice()).isEqualTo(9.99);
@@ -49,4 +52,27 @@ class ItemTest {
         assertThat(builtItem.getPrice()).isEqualTo(19.99);
     }
 
-}
\ No newline at end of file
+    @Test
+    void itemsWithTheSameIdAreEqual() {
+        Item sameRow = Item.builder().id(ITEM_ID).name("Renamed").build();
+
+        assertThat(item).isEqualTo(sameRow);
+        assertThat(item).hasSameHashCodeAs(sameRow);
+        assertThat(item).isNotEqualTo(Item.builder().id(UUID.randomUUID()).build());
+        assertThat(Item.builder().name("Same").build()).isNotEqualTo(Item.builder().name("Same").build());
+    }
+
+    @Test
+    void idIsAssignedWhenBuilt() {
+        Item built = Item.builder().name("New").build();
+
+        assertThat(built.getId()).isNotNull().isNotEqualTo(Item.builder().name("New").build().getId());
+        assertThat(built.isNew()).isTrue();
+        assertThat(built.hashCode()).isEqualTo(built.getId().hashCode());
+    }
+
+    @Test
+    void toStringDoesNotIncludeTheRestaurant() {
+        assertThat(item.toString()).contains("Test Item").doesNotContain("Test Restaurant");
+    }
+}
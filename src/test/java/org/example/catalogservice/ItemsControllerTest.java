@@ -1,12 +1,17 @@
 package org.example.catalogservice;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.example.catalogservice.cache.CatalogCache;
 import org.example.catalogservice.controllers.ItemsController;
+import org.example.catalogservice.dto.ApiResponse;
+import org.example.catalogservice.dto.BulkItemRequest;
 import org.example.catalogservice.dto.ItemRequest;
 import org.example.catalogservice.exceptions.GlobalExceptionHandler;
 import org.example.catalogservice.exceptions.ItemAlreadyExistsException;
 import org.example.catalogservice.exceptions.ItemNotFoundException;
 import org.example.catalogservice.exceptions.RestaurantNotFoundException;
+import org.example.catalogservice.exceptions.TooManyItemsRequestedException;
 import org.example.catalogservice.services.ItemsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,20 +19,32 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.example.catalogservice.constants.Constants.FETCHED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ItemsController.class)
-@Import(SecurityConfigTest.class)
+@Import({SecurityConfigTest.class, CatalogCache.class})
 class ItemsControllerTest {
+    private static final UUID RESTAURANT_ID = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+    private static final UUID ITEM_ID = UUID.fromString("00000000-0000-0000-0000-0000000000b1");
+    private static final UUID OTHER_ITEM_ID = UUID.fromString("00000000-0000-0000-0000-0000000000b2");
 
     @Autowired
     private MockMvc mvc;
@@ -38,9 +55,13 @@ class ItemsControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CatalogCache catalogCache;
+
     @BeforeEach
     void setup() {
         reset(itemsService);
+        catalogCache.evictAll();
     }
 
     @Test
@@ -50,7 +71,7 @@ class ItemsControllerTest {
                 .name("name")
                 .price(200.00)
                 .build();
-        String restaurantId = "abc";
+        UUID restaurantId = RESTAURANT_ID;
         String req = objectMapper.writeValueAsString(request);
 
         when(itemsService.add(restaurantId, request)).thenReturn(new ResponseEntity<>(HttpStatus.CREATED));
@@ -68,7 +89,7 @@ class ItemsControllerTest {
                 .name("name")
                 .price(200.00)
                 .build();
-        String restaurantId = "abc";
+        UUID restaurantId = RESTAURANT_ID;
         String req = objectMapper.writeValueAsString(request);
 
         doThrow(new RestaurantNotFoundException("Restaurant not found")).when(itemsService).add(restaurantId, request);
@@ -87,7 +108,7 @@ class ItemsControllerTest {
                 .name("name")
                 .price(200.00)
                 .build();
-        String restaurantId = "abc";
+        UUID restaurantId = RESTAURANT_ID;
         String req = objectMapper.writeValueAsString(request);
 
         when(itemsService.add(restaurantId, request)).thenThrow(new ItemAlreadyExistsException("Item already exists"));
@@ -99,19 +120,213 @@ class ItemsControllerTest {
         verify(itemsService, times(1)).add(restaurantId, request);
     }
 
+    @Test
+    public void testAddAllItemsToRestaurantCreated() throws Exception {
+        BulkItemRequest request = BulkItemRequest.builder()
+                .items(List.of(ItemRequest.builder().name("name").price(200.00).build()))
+                .build();
+        UUID restaurantId = RESTAURANT_ID;
+        String req = objectMapper.writeValueAsString(request);
+
+        when(itemsService.addAll(restaurantId, request)).thenReturn(new ResponseEntity<>(HttpStatus.CREATED));
+
+        mvc.perform(post("/restaurants/" + restaurantId + "/items/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(req)
+        ).andExpect(status().isCreated());
+        verify(itemsService, times(1)).addAll(restaurantId, request);
+    }
+
+    @Test
+    public void testAddAllWithoutItems_badRequest() throws Exception {
+        String req = objectMapper.writeValueAsString(BulkItemRequest.builder().items(List.of()).build());
+
+        mvc.perform(post("/restaurants/" + RESTAURANT_ID + "/items/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(req)
+        ).andExpect(status().isBadRequest());
+        verify(itemsService, never()).addAll(any(), any());
+    }
+
+    @Test
+    public void testAddAllWithInvalidItem_badRequest() throws Exception {
+        String req = objectMapper.writeValueAsString(BulkItemRequest.builder()
+                .items(List.of(ItemRequest.builder().name("name").price(10.00).build()))
+                .build());
+
+        mvc.perform(post("/restaurants/" + RESTAURANT_ID + "/items/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(req)
+        ).andExpect(status().isBadRequest());
+        verify(itemsService, never()).addAll(any(), any());
+    }
+
+    @Test
+    public void testAddAllWithNullItem_badRequest() throws Exception {
+        mvc.perform(post("/restaurants/" + RESTAURANT_ID + "/items/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"items\":[null]}")
+        ).andExpect(status().isBadRequest())
+                .andExpect(content().json("{\"errors\":[\"Items must not be null\"]}"));
+        verify(itemsService, never()).addAll(any(), any());
+    }
+
     @Test
     public void test_fetchAllItemsByRestaurant_ok() throws Exception {
-        String restaurantId = "abc";
+        UUID restaurantId = RESTAURANT_ID;
+
+        when(itemsService.fetchAll(restaurantId)).thenReturn(new ResponseEntity<>(HttpStatus.OK));
+
+        mvc.perform(get("/restaurants/" + restaurantId + "/items")).andExpect(status().isOk());
+        verify(itemsService, times(1)).fetchAll(restaurantId);
+    }
+
+    @Test
+    public void test_fetchAllItemsByRestaurantIsServedFromCache() throws Exception {
+        UUID restaurantId = RESTAURANT_ID;
 
         when(itemsService.fetchAll(restaurantId)).thenReturn(new ResponseEntity<>(HttpStatus.OK));
 
         mvc.perform(get("/restaurants/" + restaurantId + "/items")).andExpect(status().isOk());
+        mvc.perform(get("/restaurants/" + restaurantId + "/items")).andExpect(status().isOk());
+        verify(itemsService, times(1)).fetchAll(restaurantId);
+    }
+
+    @Test
+    public void test_fetchAllItemsWithFields_cachedSeparatelyFromFullMenu() throws Exception {
+        UUID restaurantId = RESTAURANT_ID;
+        List<String> fieldset = List.of("id", "name", "price");
+
+        when(itemsService.fetchAll(restaurantId)).thenReturn(new ResponseEntity<>(HttpStatus.OK));
+        when(itemsService.fetchAll(restaurantId, fieldset)).thenReturn(new ResponseEntity<>(HttpStatus.OK));
+
+        String fullEtag = mvc.perform(get("/restaurants/" + restaurantId + "/items"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mvc.perform(get("/restaurants/" + restaurantId + "/items").param("fields", "price,name"))
+                .andExpect(status().isOk());
+        mvc.perform(get("/restaurants/" + restaurantId + "/items").param("fields", "name,price"))
+                .andExpect(status().isOk());
+        mvc.perform(get("/restaurants/" + restaurantId + "/items").param("fields", "name,price")
+                        .header(HttpHeaders.IF_NONE_MATCH, fullEtag))
+                .andExpect(status().isOk());
+
+        verify(itemsService, times(1)).fetchAll(restaurantId);
+        verify(itemsService, times(1)).fetchAll(restaurantId, fieldset);
+    }
+
+    @Test
+    public void test_fetchAllItemsWithUnknownField_badRequest() throws Exception {
+        mvc.perform(get("/restaurants/" + RESTAURANT_ID + "/items").param("fields", "name,secret"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(itemsService);
+    }
+
+    @Test
+    public void test_fetchAllItemsAsCbor_sharesOneLoadWithJson() throws Exception {
+        UUID restaurantId = RESTAURANT_ID;
+
+        when(itemsService.fetchAll(restaurantId)).thenReturn(new ResponseEntity<>(HttpStatus.OK));
+
+        String jsonEtag = mvc.perform(get("/restaurants/" + restaurantId + "/items"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String cborEtag = mvc.perform(get("/restaurants/" + restaurantId + "/items").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get("/restaurants/" + restaurantId + "/items").accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonEtag))
+                .andExpect(status().isOk());
+        mvc.perform(get("/restaurants/" + restaurantId + "/items").accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, cborEtag))
+                .andExpect(status().isNotModified());
         verify(itemsService, times(1)).fetchAll(restaurantId);
     }
 
+    @Test
+    public void test_fetchItemsByIdAsSmile_ok() throws Exception {
+        ApiResponse response = ApiResponse.builder()
+                .message(FETCHED)
+                .status(HttpStatus.OK)
+                .data(Map.of("items", List.of()))
+                .build();
+        when(itemsService.fetchAllById(RESTAURANT_ID, List.of(ITEM_ID))).thenReturn(ResponseEntity.ok(response));
+
+        byte[] body = mvc.perform(get("/restaurants/" + RESTAURANT_ID + "/items/batch").param("ids", ITEM_ID.toString())
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(FETCHED, new SmileMapper().readTree(body).get("message").asText());
+    }
+
+    @Test
+    public void test_fetchAllItemsWithMatchingETag_notModified() throws Exception {
+        UUID restaurantId = RESTAURANT_ID;
+
+        when(itemsService.fetchAll(restaurantId)).thenReturn(menu("dosa"));
+
+        String etag = mvc.perform(get("/restaurants/" + restaurantId + "/items"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get("/restaurants/" + restaurantId + "/items").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(itemsService, times(1)).fetchAll(restaurantId);
+    }
+
+    @Test
+    public void test_fetchAllItemsWithETagOfUnchangedReload_notModified() throws Exception {
+        UUID restaurantId = RESTAURANT_ID;
+
+        when(itemsService.fetchAll(restaurantId)).thenReturn(menu("dosa"));
+
+        String etag = mvc.perform(get("/restaurants/" + restaurantId + "/items"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        catalogCache.evictAll();
+
+        mvc.perform(get("/restaurants/" + restaurantId + "/items").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(itemsService, times(2)).fetchAll(restaurantId);
+    }
+
+    @Test
+    public void test_fetchAllItemsWithStaleETag_ok() throws Exception {
+        UUID restaurantId = RESTAURANT_ID;
+
+        when(itemsService.fetchAll(restaurantId)).thenReturn(menu("dosa"), menu("idli"));
+
+        String etag = mvc.perform(get("/restaurants/" + restaurantId + "/items"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        catalogCache.evict(restaurantId);
+
+        mvc.perform(get("/restaurants/" + restaurantId + "/items").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        verify(itemsService, times(2)).fetchAll(restaurantId);
+    }
+
+    @Test
+    public void test_fetchAllItemsChangedOnAnotherReplica_okOnceReloaded() throws Exception {
+        UUID restaurantId = RESTAURANT_ID;
+
+        when(itemsService.fetchAll(restaurantId)).thenReturn(menu("dosa"), menu("idli"));
+
+        String etag = mvc.perform(get("/restaurants/" + restaurantId + "/items"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        // No local evict: the entry simply expires.
+        catalogCache.evictAll();
+
+        mvc.perform(get("/restaurants/" + restaurantId + "/items").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
     @Test
     void testRestaurantNotFoundWhileFetchingAllItems() throws Exception {
-        String restaurantId = "abc";
+        UUID restaurantId = RESTAURANT_ID;
 
         doThrow(new RestaurantNotFoundException("Restaurant not found")).when(itemsService).fetchAll(restaurantId);
 
@@ -122,28 +337,28 @@ class ItemsControllerTest {
 
     @Test
     void testFetchItemById() throws Exception {
-        String itemId = "item123";
+        UUID itemId = ITEM_ID;
 
-        mvc.perform(get("/restaurants/abc/items/" + itemId))
+        mvc.perform(get("/restaurants/" + RESTAURANT_ID + "/items/" + itemId))
                 .andExpect(status().isOk());
         verify(itemsService, times(1)).fetchById(itemId);
     }
 
     @Test
     void testItemNotFoundWhileFetchingById() throws Exception {
-        String itemId = "item123";
+        UUID itemId = ITEM_ID;
 
         doThrow(new ItemNotFoundException("Item not found")).when(itemsService).fetchById(itemId);
 
-        mvc.perform(get("/restaurants/abc/items/" + itemId))
+        mvc.perform(get("/restaurants/" + RESTAURANT_ID + "/items/" + itemId))
                 .andExpect(status().isBadRequest());
         verify(itemsService, times(1)).fetchById(itemId);
     }
 
     @Test
     void test_cannotFindRestaurantWhileFetchingItem_badRequest() throws Exception {
-        String restaurantId = "abc";
-        String itemId = "item123";
+        UUID restaurantId = RESTAURANT_ID;
+        UUID itemId = ITEM_ID;
 
         doThrow(new RestaurantNotFoundException("Restaurant not found")).when(itemsService).fetchById(itemId);
 
@@ -154,18 +369,18 @@ class ItemsControllerTest {
 
     @Test
     void testCannotFindItemInRestaurant_badRequest() throws Exception {
-        String itemId = "item123";
+        UUID itemId = ITEM_ID;
 
         doThrow(new ItemNotFoundException("Item not found")).when(itemsService).fetchById(itemId);
 
-        mvc.perform(get("/restaurants/abc/items/" + itemId))
+        mvc.perform(get("/restaurants/" + RESTAURANT_ID + "/items/" + itemId))
                 .andExpect(status().isBadRequest());
         verify(itemsService, times(1)).fetchById(itemId);
     }
 
     @Test
     void test_restaurantNotFoundWhileFetchingAllItems_badRequest() throws Exception {
-        String restaurantId = "abc";
+        UUID restaurantId = RESTAURANT_ID;
 
         doThrow(new RestaurantNotFoundException("Restaurant not found")).when(itemsService).fetchAll(restaurantId);
 
@@ -173,4 +388,31 @@ class ItemsControllerTest {
                 .andExpect(status().isBadRequest());
         verify(itemsService, times(1)).fetchAll(restaurantId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void test_fetchItemsByIds_ok() throws Exception {
+        when(itemsService.fetchAllById(RESTAURANT_ID, List.of(ITEM_ID, OTHER_ITEM_ID))).thenReturn(new ResponseEntity<>(HttpStatus.OK));
+
+        mvc.perform(get("/restaurants/" + RESTAURANT_ID + "/items/batch").param("ids", ITEM_ID + "," + OTHER_ITEM_ID))
+                .andExpect(status().isOk());
+        verify(itemsService, times(1)).fetchAllById(RESTAURANT_ID, List.of(ITEM_ID, OTHER_ITEM_ID));
+        verify(itemsService, never()).fetchById(any());
+    }
+
+    @Test
+    void test_fetchTooManyItemsByIds_badRequest() throws Exception {
+        doThrow(new TooManyItemsRequestedException("Too many item ids requested"))
+                .when(itemsService).fetchAllById(eq(RESTAURANT_ID), any());
+
+        mvc.perform(get("/restaurants/" + RESTAURANT_ID + "/items/batch").param("ids", ITEM_ID + "," + OTHER_ITEM_ID))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static ResponseEntity<ApiResponse> menu(String name) {
+        return ResponseEntity.ok(ApiResponse.builder()
+                .message(FETCHED)
+                .status(HttpStatus.OK)
+                .data(Map.of("items", List.of(Map.of("name", name))))
+                .build());
+    }
+}
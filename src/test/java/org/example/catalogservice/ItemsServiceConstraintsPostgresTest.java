@@ -0,0 +1,17 @@
+package org.example.catalogservice;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * {@link ItemsServiceConstraintsTest} against the Liquibase schema, where the
+ * constraint names come from the changelog rather than the entities.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.liquibase.enabled=true",
+        "spring.flyway.enabled=false"})
+@Import(PostgresTestConfig.class)
+class ItemsServiceConstraintsPostgresTest extends ItemsServiceConstraintsTest {
+}
@@ -0,0 +1,70 @@
+package org.example.catalogservice;
+
+import org.example.catalogservice.dto.Address;
+import org.example.catalogservice.dto.ItemRequest;
+import org.example.catalogservice.exceptions.ItemAlreadyExistsException;
+import org.example.catalogservice.exceptions.RestaurantNotFoundException;
+import org.example.catalogservice.models.Restaurant;
+import org.example.catalogservice.repositories.CatalogChangesRepository;
+import org.example.catalogservice.repositories.ItemsRepository;
+import org.example.catalogservice.repositories.RestaurantsRepository;
+import org.example.catalogservice.services.ItemsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Writes rejected by the schema itself, with no pre-check query, still come
+ * back as the catalog's own exceptions. Runs on the H2 schema generated from
+ * the entities, so it also pins the constraint names to the changelog's.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ItemsServiceConstraintsTest {
+    @Autowired
+    private ItemsService itemsService;
+
+    @Autowired
+    private RestaurantsRepository restaurantsRepository;
+
+    @Autowired
+    private ItemsRepository itemsRepository;
+
+    @Autowired
+    private CatalogChangesRepository catalogChangesRepository;
+
+    @AfterEach
+    void cleanup() {
+        itemsRepository.deleteAllInBatch();
+        restaurantsRepository.deleteAllInBatch();
+        catalogChangesRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void addingAnItemToAnUnknownRestaurant_throwsRestaurantNotFound() {
+        ItemRequest request = ItemRequest.builder().name("dosa").price(120.0).build();
+
+        assertThrows(RestaurantNotFoundException.class, () -> itemsService.add(UUID.randomUUID(), request));
+        assertEquals(0, itemsRepository.count());
+    }
+
+    @Test
+    void addingAnItemTwice_throwsItemAlreadyExists() {
+        Restaurant restaurant = restaurantsRepository.save(Restaurant.builder()
+                .name("restaurant")
+                .address(new Address(1, "street", "locality", "city", "state", "country", "600001"))
+                .build());
+        ItemRequest request = ItemRequest.builder().name("dosa").price(120.0).build();
+        itemsService.add(restaurant.getId(), request);
+
+        assertThrows(ItemAlreadyExistsException.class, () -> itemsService.add(restaurant.getId(), request));
+        assertEquals(1, itemsRepository.count());
+    }
+}
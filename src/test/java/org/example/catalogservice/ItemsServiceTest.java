@@ -1,41 +1,78 @@
 package org.example.catalogservice;
 
+import org.example.catalogservice.cache.CatalogCache;
 import org.example.catalogservice.dto.ApiResponse;
+import org.example.catalogservice.dto.BulkItemRequest;
+import org.example.catalogservice.dto.BulkItemResult;
 import org.example.catalogservice.dto.ItemRequest;
+import org.example.catalogservice.dto.ItemResponse;
+import org.example.catalogservice.dto.ItemSearchRow;
+import org.example.catalogservice.dto.ItemSummary;
+import org.example.catalogservice.exceptions.InvalidCursorException;
+import org.example.catalogservice.exceptions.InvalidSearchQueryException;
 import org.example.catalogservice.exceptions.ItemAlreadyExistsException;
 import org.example.catalogservice.exceptions.ItemNotFoundException;
 import org.example.catalogservice.exceptions.RestaurantNotFoundException;
+import org.example.catalogservice.exceptions.TooManyItemsRequestedException;
+import org.example.catalogservice.models.CatalogChange;
 import org.example.catalogservice.models.Item;
 import org.example.catalogservice.models.Restaurant;
 import org.example.catalogservice.repositories.ItemsRepository;
 import org.example.catalogservice.repositories.RestaurantsRepository;
+import org.example.catalogservice.services.CatalogChangesService;
 import org.example.catalogservice.services.ItemsService;
+import org.example.catalogservice.utils.CursorCodec;
+import org.example.catalogservice.utils.SearchCursor;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.nio.file.AccessDeniedException;
+import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
 
+import static org.example.catalogservice.constants.Constants.DEFAULT_PAGE_SIZE;
 import static org.example.catalogservice.constants.Constants.FETCHED;
 import static org.example.catalogservice.constants.Constants.ITEM_ADDED;
+import static org.example.catalogservice.constants.Constants.MAX_BATCH_ITEMS;
+import static org.example.catalogservice.constants.Constants.MAX_SEARCH_RESULTS;
+import static org.example.catalogservice.constants.Constants.SEARCH_SCAN_WINDOW;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.openMocks;
 
 class ItemsServiceTest {
+    private static final UUID RESTAURANT_ID = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+    private static final UUID FIRST_ITEM_ID = UUID.fromString("00000000-0000-0000-0000-0000000000b1");
+    private static final UUID SECOND_ITEM_ID = UUID.fromString("00000000-0000-0000-0000-0000000000b2");
+    private static final UUID THIRD_ITEM_ID = UUID.fromString("00000000-0000-0000-0000-0000000000b3");
+
     @Mock
     private ItemsRepository itemsRepository;
 
     @Mock
     private RestaurantsRepository restaurantsRepository;
 
+    @Mock
+    private CatalogCache catalogCache;
+
+    @Mock
+    private CatalogChangesService catalogChangesService;
+
     @InjectMocks
     private ItemsService itemsService;
 
@@ -50,19 +87,20 @@ class ItemsServiceTest {
                 .name("item")
                 .price(200.0)
                 .build();
-        String restaurantId = "abc";
+        UUID restaurantId = RESTAURANT_ID;
         Restaurant restaurant = mock(Restaurant.class);
 
-        when(restaurantsRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
-        when(itemsRepository.existsByNameAndRestaurant("item", restaurant)).thenReturn(false);
+        when(restaurantsRepository.getReferenceById(restaurantId)).thenReturn(restaurant);
         ResponseEntity<ApiResponse> response = itemsService.add(restaurantId, request);
 
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         assertEquals(ITEM_ADDED, Objects.requireNonNull(response.getBody()).getMessage());
 
-        verify(restaurantsRepository, times(1)).findById(restaurantId);
-        verify(itemsRepository, times(1)).existsByNameAndRestaurant("item", restaurant);
-        verify(itemsRepository, times(1)).save(any(Item.class));
+        ArgumentCaptor<Item> saved = ArgumentCaptor.forClass(Item.class);
+        verify(restaurantsRepository, never()).findById(restaurantId);
+        verify(itemsRepository, times(1)).saveAndFlush(saved.capture());
+        verify(catalogChangesService, times(1)).record(CatalogChange.Type.ITEM_ADDED, restaurantId, saved.getValue().getId());
+        verify(catalogCache, times(1)).evict(restaurantId);
     }
 
     @Test
@@ -71,16 +109,15 @@ class ItemsServiceTest {
                 .name("item")
                 .price(200.0)
                 .build();
-        String restaurantId = "abc";
+        UUID restaurantId = RESTAURANT_ID;
         Restaurant restaurant = mock(Restaurant.class);
 
-        when(restaurantsRepository.findById(restaurantId)).thenThrow(new RestaurantNotFoundException("Restaurant not found"));
+        when(restaurantsRepository.getReferenceById(restaurantId)).thenReturn(restaurant);
+        when(itemsRepository.saveAndFlush(any(Item.class))).thenThrow(violationOf(Item.RESTAURANT_FOREIGN_KEY));
 
         assertThrows(RestaurantNotFoundException.class, () -> itemsService.add(restaurantId, request));
 
-        verify(restaurantsRepository, times(1)).findById(restaurantId);
-        verify(itemsRepository, never()).existsByNameAndRestaurant("item", restaurant);
-        verify(itemsRepository, never()).save(any(Item.class));
+        verify(catalogCache, never()).evict(restaurantId);
     }
 
     @Test
@@ -89,84 +126,317 @@ class ItemsServiceTest {
                 .name("item")
                 .price(200.0)
                 .build();
-        String restaurantId = "abc";
+        UUID restaurantId = RESTAURANT_ID;
         Restaurant restaurant = mock(Restaurant.class);
 
-        when(restaurantsRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
-        when(itemsRepository.existsByNameAndRestaurant("item", restaurant)).thenReturn(true);
+        when(restaurantsRepository.getReferenceById(restaurantId)).thenReturn(restaurant);
+        when(itemsRepository.saveAndFlush(any(Item.class)))
+                .thenThrow(violationOf("PUBLIC.UK_FOOD_ITEMS_RESTAURANT_NAME_INDEX_2"));
 
         assertThrows(ItemAlreadyExistsException.class, () -> itemsService.add(restaurantId, request));
 
-        verify(restaurantsRepository, times(1)).findById(restaurantId);
-        verify(itemsRepository, times(1)).existsByNameAndRestaurant("item", restaurant);
-        verify(itemsRepository, never()).save(any(Item.class));
+        verify(itemsRepository, times(1)).saveAndFlush(any(Item.class));
+        verify(catalogChangesService, never()).record(any(), any(), any());
+        verify(catalogCache, never()).evict(restaurantId);
     }
 
     @Test
-    public void testFetchAllItemsByRestaurantSuccessfully() {
-        String restaurantId = "abc";
+    public void testUnrelatedIntegrityViolationWhileAddingTheItemIsRethrown() {
+        ItemRequest request = ItemRequest.builder()
+                .name("item")
+                .price(200.0)
+                .build();
+        UUID restaurantId = RESTAURANT_ID;
+
+        when(itemsRepository.saveAndFlush(any(Item.class))).thenThrow(violationOf("ck_price_positive"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> itemsService.add(restaurantId, request));
+    }
+
+    @Test
+    public void testAddAllItemsReportsDuplicatesPerRow() {
+        UUID restaurantId = RESTAURANT_ID;
         Restaurant restaurant = mock(Restaurant.class);
-        Item firstItem = mock(Item.class);
-        Item secondItem = mock(Item.class);
-        List<Item> items = List.of(firstItem, secondItem);
-
-        when(restaurantsRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
-        when(itemsRepository.findAllByRestaurant(restaurant)).thenReturn(items);
-        when(firstItem.getRestaurant()).thenReturn(restaurant);
-        when(secondItem.getRestaurant()).thenReturn(restaurant);
+        BulkItemRequest request = BulkItemRequest.builder()
+                .items(List.of(
+                        ItemRequest.builder().name("dosa").price(120.0).build(),
+                        ItemRequest.builder().name("idli").price(100.0).build(),
+                        ItemRequest.builder().name("dosa").price(130.0).build(),
+                        ItemRequest.builder().name("vada").price(110.0).build()))
+                .build();
+
+        when(restaurantsRepository.existsById(restaurantId)).thenReturn(true);
+        when(restaurantsRepository.getReferenceById(restaurantId)).thenReturn(restaurant);
+        when(itemsRepository.findExistingNames(restaurantId, List.of("dosa", "idli", "dosa", "vada")))
+                .thenReturn(Set.of("idli"));
+        ResponseEntity<ApiResponse> response = itemsService.addAll(restaurantId, request);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        List<?> results = (List<?>) Objects.requireNonNull(response.getBody()).getData().get("items");
+        assertEquals(List.of(BulkItemResult.Status.CREATED, BulkItemResult.Status.DUPLICATE,
+                        BulkItemResult.Status.DUPLICATE, BulkItemResult.Status.CREATED),
+                results.stream().map(result -> ((BulkItemResult) result).getStatus()).toList());
+
+        ArgumentCaptor<List<Item>> saved = ArgumentCaptor.forClass(List.class);
+        verify(itemsRepository, times(1)).saveAllAndFlush(saved.capture());
+        assertEquals(List.of("dosa", "vada"), saved.getValue().stream().map(Item::getName).toList());
+        verify(catalogChangesService, times(1)).record(CatalogChange.Type.ITEMS_ADDED, restaurantId, null);
+        verify(catalogCache, times(1)).evict(restaurantId);
+    }
+
+    @Test
+    public void testAddAllItemsToMissingRestaurant_throwsException() {
+        UUID restaurantId = RESTAURANT_ID;
+        BulkItemRequest request = BulkItemRequest.builder()
+                .items(List.of(ItemRequest.builder().name("dosa").price(120.0).build()))
+                .build();
+
+        when(restaurantsRepository.existsById(restaurantId)).thenReturn(false);
+
+        assertThrows(RestaurantNotFoundException.class, () -> itemsService.addAll(restaurantId, request));
+
+        verify(itemsRepository, never()).saveAllAndFlush(any());
+        verify(catalogCache, never()).evict(restaurantId);
+    }
+
+    @Test
+    public void testFetchAllItemsByRestaurantSuccessfully() {
+        UUID restaurantId = RESTAURANT_ID;
+        List<ItemResponse> items = List.of(
+                new ItemResponse(FIRST_ITEM_ID, "first", null, restaurantId, 120.0),
+                new ItemResponse(SECOND_ITEM_ID, "second", "spicy", restaurantId, 150.0));
+
+        when(itemsRepository.findMenuByRestaurantId(restaurantId)).thenReturn(items);
         ResponseEntity<ApiResponse> response = itemsService.fetchAll(restaurantId);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(FETCHED, Objects.requireNonNull(response.getBody()).getMessage());
+        assertEquals(items, response.getBody().getData().get("items"));
+
+        verify(itemsRepository, times(1)).findMenuByRestaurantId(restaurantId);
+        verify(restaurantsRepository, never()).findById(restaurantId);
+        verify(restaurantsRepository, never()).existsById(restaurantId);
+    }
+
+    @Test
+    public void testFetchAllItemsOfRestaurantWithEmptyMenu() {
+        UUID restaurantId = RESTAURANT_ID;
+
+        when(itemsRepository.findMenuByRestaurantId(restaurantId)).thenReturn(List.of());
+        when(restaurantsRepository.existsById(restaurantId)).thenReturn(true);
+        ResponseEntity<ApiResponse> response = itemsService.fetchAll(restaurantId);
 
-        verify(restaurantsRepository, times(1)).findById(restaurantId);
-        verify(itemsRepository, times(1)).findAllByRestaurant(restaurant);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(), Objects.requireNonNull(response.getBody()).getData().get("items"));
+        verify(restaurantsRepository, times(1)).existsById(restaurantId);
     }
 
     @Test
     public void testRestaurantNotFoundWhileFetchingAllItems_throwsException() {
-        String restaurantId = "abc";
+        UUID restaurantId = RESTAURANT_ID;
 
-        when(restaurantsRepository.findById(restaurantId)).thenThrow(new RestaurantNotFoundException("Restaurant not found"));
+        when(itemsRepository.findMenuByRestaurantId(restaurantId)).thenReturn(List.of());
+        when(restaurantsRepository.existsById(restaurantId)).thenReturn(false);
 
         assertThrows(RestaurantNotFoundException.class, () -> itemsService.fetchAll(restaurantId));
 
-        verify(restaurantsRepository, times(1)).findById(restaurantId);
-        verify(itemsRepository, never()).findAllByRestaurant(any(Restaurant.class));
+        verify(itemsRepository, times(1)).findMenuByRestaurantId(restaurantId);
+        verify(restaurantsRepository, times(1)).existsById(restaurantId);
+    }
+
+    @Test
+    public void testFetchMenuFieldsetWithoutDescriptionSkipsTheColumn() {
+        UUID restaurantId = RESTAURANT_ID;
+        ItemSummary summary = itemSummary(FIRST_ITEM_ID, "first");
+
+        when(itemsRepository.findMenuSummaryByRestaurantId(restaurantId)).thenReturn(List.of(summary));
+        ResponseEntity<ApiResponse> response = itemsService.fetchAll(restaurantId, List.of("id", "name", "price"));
+
+        assertEquals(List.of(Map.of("id", FIRST_ITEM_ID, "name", "first", "price", 120.0)),
+                Objects.requireNonNull(response.getBody()).getData().get("items"));
+        verify(itemsRepository, never()).findMenuByRestaurantId(restaurantId);
+        verify(restaurantsRepository, never()).existsById(restaurantId);
+    }
+
+    @Test
+    public void testFetchMenuFieldsetWithDescriptionReadsFullRows() {
+        UUID restaurantId = RESTAURANT_ID;
+        List<ItemResponse> items = List.of(
+                new ItemResponse(FIRST_ITEM_ID, "first", null, restaurantId, 120.0),
+                new ItemResponse(SECOND_ITEM_ID, "second", "spicy", restaurantId, 150.0));
+
+        when(itemsRepository.findMenuByRestaurantId(restaurantId)).thenReturn(items);
+        ResponseEntity<ApiResponse> response = itemsService.fetchAll(restaurantId, List.of("id", "description"));
+
+        assertEquals(List.of(Map.of("id", FIRST_ITEM_ID), Map.of("id", SECOND_ITEM_ID, "description", "spicy")),
+                Objects.requireNonNull(response.getBody()).getData().get("items"));
+        verify(itemsRepository, never()).findMenuSummaryByRestaurantId(restaurantId);
+    }
+
+    @Test
+    public void testFetchMenuFieldsetOfUnknownRestaurant_throwsException() {
+        UUID restaurantId = RESTAURANT_ID;
+
+        when(itemsRepository.findMenuSummaryByRestaurantId(restaurantId)).thenReturn(List.of());
+        when(restaurantsRepository.existsById(restaurantId)).thenReturn(false);
+
+        assertThrows(RestaurantNotFoundException.class, () -> itemsService.fetchAll(restaurantId, List.of("id", "name")));
+    }
+
+    @Test
+    public void testFetchItemsByIdsKeepsRequestOrderAndReportsMisses() {
+        UUID restaurantId = RESTAURANT_ID;
+        ItemResponse first = new ItemResponse(FIRST_ITEM_ID, "dosa", null, restaurantId, 120.0);
+        ItemResponse third = new ItemResponse(THIRD_ITEM_ID, "vada", null, restaurantId, 150.0);
+
+        when(itemsRepository.findResponsesByRestaurantIdAndIdIn(restaurantId, Set.of(THIRD_ITEM_ID, SECOND_ITEM_ID, FIRST_ITEM_ID)))
+                .thenReturn(List.of(first, third));
+        ResponseEntity<ApiResponse> response = itemsService.fetchAllById(restaurantId, List.of(THIRD_ITEM_ID, SECOND_ITEM_ID, FIRST_ITEM_ID, THIRD_ITEM_ID));
+
+        Map<?, ?> data = Objects.requireNonNull(response.getBody()).getData();
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(third, first), data.get("items"));
+        assertEquals(List.of(SECOND_ITEM_ID), data.get("missing"));
+        verify(itemsRepository, times(1)).findResponsesByRestaurantIdAndIdIn(eq(restaurantId), any());
+    }
+
+    @Test
+    public void testFetchItemsByIdsWithoutIdsSkipsTheQuery() {
+        ResponseEntity<ApiResponse> response = itemsService.fetchAllById(RESTAURANT_ID, List.of());
+
+        assertEquals(List.of(), Objects.requireNonNull(response.getBody()).getData().get("items"));
+        verify(itemsRepository, never()).findResponsesByRestaurantIdAndIdIn(any(), any());
+    }
+
+    @Test
+    public void testFetchTooManyItemsByIds_throwsException() {
+        List<UUID> ids = IntStream.rangeClosed(0, MAX_BATCH_ITEMS).mapToObj(i -> UUID.randomUUID()).toList();
+
+        assertThrows(TooManyItemsRequestedException.class, () -> itemsService.fetchAllById(RESTAURANT_ID, ids));
+        verify(itemsRepository, never()).findResponsesByRestaurantIdAndIdIn(any(), any());
+    }
+
+    @Test
+    public void testSearchReturnsRankedPageWithNextCursor() {
+        ItemSearchRow first = searchRow(FIRST_ITEM_ID, "masala dosa", 0.6f);
+        ItemSearchRow second = searchRow(SECOND_ITEM_ID, "masala vada", 0.3f);
+
+        when(itemsRepository.search("masala:*", MAX_SEARCH_RESULTS, SEARCH_SCAN_WINDOW, 2)).thenReturn(List.of(first, second));
+        ResponseEntity<ApiResponse> response = itemsService.search("Masala", null, 1);
+
+        Map<?, ?> data = Objects.requireNonNull(response.getBody()).getData();
+        assertEquals(List.of(new ItemResponse(FIRST_ITEM_ID, "masala dosa", null, RESTAURANT_ID, 120.0)), data.get("items"));
+        assertEquals(new SearchCursor(0.6f, FIRST_ITEM_ID), SearchCursor.decode((String) data.get("nextCursor")));
+    }
+
+    @Test
+    public void testSearchWithCursorContinuesAfterThatRow() {
+        ItemSearchRow row = searchRow(SECOND_ITEM_ID, "masala vada", 0.3f);
+        String cursor = new SearchCursor(0.6f, FIRST_ITEM_ID).encode();
+
+        when(itemsRepository.searchAfter("masala:*", MAX_SEARCH_RESULTS, SEARCH_SCAN_WINDOW, 0.6f, FIRST_ITEM_ID, 2)).thenReturn(List.of(row));
+        ResponseEntity<ApiResponse> response = itemsService.search("Masala", cursor, 1);
+
+        Map<?, ?> data = Objects.requireNonNull(response.getBody()).getData();
+        assertEquals(List.of(new ItemResponse(SECOND_ITEM_ID, "masala vada", null, RESTAURANT_ID, 120.0)), data.get("items"));
+        assertFalse(data.containsKey("nextCursor"));
+        verify(itemsRepository, never()).search(any(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    public void testSearchLastPageHasNoNextCursor() {
+        ItemSearchRow row = searchRow(FIRST_ITEM_ID, "dosa", 0.6f);
+
+        when(itemsRepository.search("dosa:*", MAX_SEARCH_RESULTS, SEARCH_SCAN_WINDOW, DEFAULT_PAGE_SIZE + 1)).thenReturn(List.of(row));
+        ResponseEntity<ApiResponse> response = itemsService.search("dosa", null, null);
+
+        Map<?, ?> data = Objects.requireNonNull(response.getBody()).getData();
+        assertEquals(1, ((List<?>) data.get("items")).size());
+        assertFalse(data.containsKey("nextCursor"));
+    }
+
+    @Test
+    public void testSearchWithForeignCursor_throwsException() {
+        String restaurantCursor = CursorCodec.encode(FIRST_ITEM_ID);
+
+        assertThrows(InvalidCursorException.class, () -> itemsService.search("dosa", restaurantCursor, null));
+        verify(itemsRepository, never()).searchAfter(any(), anyInt(), anyInt(), anyFloat(), any(), anyInt());
+    }
+
+    @Test
+    public void testSearchWithoutWords_throwsException() {
+        assertThrows(InvalidSearchQueryException.class, () -> itemsService.search(" & ", null, null));
+        verify(itemsRepository, never()).search(any(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    public void testFetchItemByIdSuccessfully() {
+        UUID itemId = FIRST_ITEM_ID;
+        ItemResponse item = new ItemResponse(itemId, "dosa", null, RESTAURANT_ID, 120.0);
+
+        when(itemsRepository.findResponseById(itemId)).thenReturn(Optional.of(item));
+        ResponseEntity<ApiResponse> response = itemsService.fetchById(itemId);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(item, Objects.requireNonNull(response.getBody()).getData().get("item"));
+        verify(itemsRepository, never()).findById(itemId);
     }
 
     @Test
     public void test_cannotFindRestaurantWhileFetchingItem_badRequest() {
-        String itemId = "item123";
+        UUID itemId = FIRST_ITEM_ID;
 
-        when(itemsRepository.findById(itemId)).thenThrow(new RestaurantNotFoundException("Restaurant not found"));
+        when(itemsRepository.findResponseById(itemId)).thenThrow(new RestaurantNotFoundException("Restaurant not found"));
 
         assertThrows(RestaurantNotFoundException.class, () -> itemsService.fetchById(itemId));
 
-        verify(itemsRepository, times(1)).findById(itemId);
+        verify(itemsRepository, times(1)).findResponseById(itemId);
     }
 
     @Test
     public void testCannotFindItemInRestaurant_badRequest() {
-        String itemId = "item123";
+        UUID itemId = FIRST_ITEM_ID;
 
-        when(itemsRepository.findById(itemId)).thenThrow(new ItemNotFoundException("Item not found"));
+        when(itemsRepository.findResponseById(itemId)).thenThrow(new ItemNotFoundException("Item not found"));
 
         assertThrows(ItemNotFoundException.class, () -> itemsService.fetchById(itemId));
 
-        verify(itemsRepository, times(1)).findById(itemId);
+        verify(itemsRepository, times(1)).findResponseById(itemId);
     }
 
     @Test
     public void test_restaurantNotFoundWhileFetchingAllItems_badRequest() {
-        String restaurantId = "abc";
+        UUID restaurantId = RESTAURANT_ID;
 
-        when(restaurantsRepository.findById(restaurantId)).thenThrow(new RestaurantNotFoundException("Restaurant not found"));
+        when(itemsRepository.findMenuByRestaurantId(restaurantId)).thenReturn(List.of());
+        when(restaurantsRepository.existsById(restaurantId)).thenReturn(false);
 
         assertThrows(RestaurantNotFoundException.class, () -> itemsService.fetchAll(restaurantId));
 
-        verify(restaurantsRepository, times(1)).findById(restaurantId);
-        verify(itemsRepository, never()).findAllByRestaurant(any(Restaurant.class));
+        verify(restaurantsRepository, never()).findById(restaurantId);
+    }
+
+    private static ItemSearchRow searchRow(UUID id, String name, float rank) {
+        ItemSearchRow row = mock(ItemSearchRow.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getName()).thenReturn(name);
+        when(row.getRestaurantId()).thenReturn(RESTAURANT_ID);
+        when(row.getPrice()).thenReturn(120.0);
+        when(row.getRank()).thenReturn(rank);
+        return row;
     }
 
+    private static ItemSummary itemSummary(UUID id, String name) {
+        ItemSummary summary = mock(ItemSummary.class);
+        when(summary.getId()).thenReturn(id);
+        when(summary.getName()).thenReturn(name);
+        when(summary.getRestaurantId()).thenReturn(RESTAURANT_ID);
+        when(summary.getPrice()).thenReturn(120.0);
+        return summary;
+    }
+
+    private static DataIntegrityViolationException violationOf(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate", new SQLException(), constraintName));
+    }
 }
\ No newline at end of file
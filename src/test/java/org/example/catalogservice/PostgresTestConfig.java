@@ -0,0 +1,25 @@
+package org.example.catalogservice;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+
+/**
+ * An embedded Postgres in place of H2, for tests that need the Liquibase
+ * schema. Importers also switch the dialect and turn Liquibase on.
+ */
+@TestConfiguration
+class PostgresTestConfig {
+    @Bean(destroyMethod = "close")
+    EmbeddedPostgres embeddedPostgres() throws IOException {
+        return EmbeddedPostgres.start();
+    }
+
+    @Bean
+    DataSource dataSource(EmbeddedPostgres embeddedPostgres) {
+        return embeddedPostgres.getPostgresDatabase();
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.catalogservice;
+
+import org.example.catalogservice.configs.AppConfig;
+import org.example.catalogservice.dto.ItemResponse;
+import org.example.catalogservice.dto.RestaurantResponse;
+import org.example.catalogservice.exceptions.RestaurantNotFoundException;
+import org.example.catalogservice.reactive.ReactiveCatalogController;
+import org.example.catalogservice.reactive.ReactiveCatalogReader;
+import org.example.catalogservice.reactive.ReactiveSecurityConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(ReactiveCatalogController.class)
+@ActiveProfiles("reactive")
+@Import({ReactiveSecurityConfig.class, AppConfig.class})
+class ReactiveCatalogControllerTest {
+    private static final UUID RESTAURANT_ID = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+
+    @Autowired
+    private WebTestClient client;
+
+    @MockBean
+    private ReactiveCatalogReader reactiveCatalogReader;
+
+    @Test
+    void testFetchRestaurantById() {
+        when(reactiveCatalogReader.fetchRestaurant(RESTAURANT_ID))
+                .thenReturn(Mono.just(new RestaurantResponse(RESTAURANT_ID, "name", null)));
+
+        authenticated().get().uri("/reactive/restaurants/" + RESTAURANT_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.data.restaurant.name").isEqualTo("name");
+    }
+
+    @Test
+    void testRestaurantNotFound_badRequest() {
+        when(reactiveCatalogReader.fetchRestaurant(RESTAURANT_ID))
+                .thenReturn(Mono.error(new RestaurantNotFoundException("Restaurant not found")));
+
+        authenticated().get().uri("/reactive/restaurants/" + RESTAURANT_ID)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testFetchMenuStreamsOneItemPerLine() {
+        when(reactiveCatalogReader.fetchMenu(RESTAURANT_ID)).thenReturn(Flux.just(
+                new ItemResponse(UUID.randomUUID(), "dosa", null, RESTAURANT_ID, 120.0),
+                new ItemResponse(UUID.randomUUID(), "idli", null, RESTAURANT_ID, 100.0)));
+
+        authenticated().get().uri("/reactive/restaurants/" + RESTAURANT_ID + "/items")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(ItemResponse.class).hasSize(2);
+    }
+
+    @Test
+    void testWithoutCredentials_unauthorized() {
+        client.get().uri("/reactive/restaurants/" + RESTAURANT_ID)
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    private WebTestClient authenticated() {
+        return client.mutate()
+                .defaultHeaders(headers -> headers.setBasicAuth("admin", "password"))
+                .build();
+    }
+}
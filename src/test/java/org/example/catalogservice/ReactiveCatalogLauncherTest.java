@@ -0,0 +1,53 @@
+package org.example.catalogservice;
+
+import org.example.catalogservice.reactive.ReactiveCatalogController;
+import org.example.catalogservice.reactive.ReactiveCatalogLauncher;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The {@code reactive} profile boots a second, WebFlux application on its
+ * own port; Tomcat does not map the reactive endpoints.
+ */
+// The console's servlet would make SecurityConfig's matchers ambiguous on a real Tomcat.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        args = {"--catalog.reactive.port=0", "--spring.h2.console.enabled=false"})
+@ActiveProfiles({"test", "reactive"})
+class ReactiveCatalogLauncherTest {
+    private static final String RESTAURANT = "/reactive/restaurants/" + UUID.randomUUID();
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private ReactiveCatalogLauncher launcher;
+
+    @LocalServerPort
+    private int servletPort;
+
+    @Test
+    void reactiveEndpointsAreServedByTheirOwnApplication() {
+        assertThat(launcher.isRunning()).isTrue();
+        assertThat(launcher.port()).isPositive().isNotEqualTo(servletPort);
+        assertThat(context.getBeanNamesForType(ReactiveCatalogController.class)).isEmpty();
+
+        WebTestClient.bindToServer().baseUrl("http://localhost:" + launcher.port()).build()
+                .get().uri(RESTAURANT)
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectHeader().valueMatches("WWW-Authenticate", "Basic.*");
+        WebTestClient.bindToServer().baseUrl("http://localhost:" + servletPort).build()
+                .get().uri(RESTAURANT)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.catalogservice;
+
+import org.example.catalogservice.dto.Address;
+import org.example.catalogservice.utils.RestaurantFingerprint;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestaurantFingerprintTest {
+
+    private Address address(String street, String city) {
+        return new Address(2, street, "locality", city, "state", "country", "600001");
+    }
+
+    @Test
+    void testMissingAddressHashesLikeEmptyAddress() {
+        assertThat(RestaurantFingerprint.of("Dosa Corner", null))
+                .isEqualTo(RestaurantFingerprint.of("Dosa Corner", new Address()));
+    }
+
+    @Test
+    void testFingerprintIgnoresCaseAndWhitespace() {
+        String fingerprint = RestaurantFingerprint.of("Dosa Corner", address("MG Road", "Chennai"));
+
+        assertThat(RestaurantFingerprint.of("  dosa   CORNER ", address("mg  road", " chennai")))
+                .isEqualTo(fingerprint);
+        assertThat(fingerprint).hasSize(64);
+    }
+
+    @Test
+    void testFingerprintDiffersForDifferentAddress() {
+        assertThat(RestaurantFingerprint.of("Dosa Corner", address("MG Road", "Chennai")))
+                .isNotEqualTo(RestaurantFingerprint.of("Dosa Corner", address("MG Road", "Madurai")));
+    }
+
+    @Test
+    void testFieldsDoNotRunTogether() {
+        assertThat(RestaurantFingerprint.of("Dosa", address("Corner MG Road", "Chennai")))
+                .isNotEqualTo(RestaurantFingerprint.of("Dosa Corner", address("MG Road", "Chennai")));
+    }
+}
@@ -2,22 +2,29 @@ package org.example.catalogservice;
 
 import org.example.catalogservice.dto.Address;
 
+import org.example.catalogservice.models.Item;
 import org.example.catalogservice.models.Restaurant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.AbstractList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
 
 class RestaurantTest {
+    private static final UUID RESTAURANT_ID = UUID.fromString("00000000-0000-0000-0000-00000000000a");
 
     private Restaurant restaurant;
 
     @BeforeEach
     void setUp() {
         restaurant = Restaurant.builder()
-                .id("restaurant-id")
+                .id(RESTAURANT_ID)
                 .name("Test Restaurant")
                 .address(new Address())
                 .items(Collections.emptyList())
@@ -26,7 +33,7 @@ class RestaurantTest {
 
     @Test
     void testRestaurantCreation() {
-        assertThat(restaurant.getId()).isEqualTo("restaurant-id");
+        assertThat(restaurant.getId()).isEqualTo(RESTAURANT_ID);
         assertThat(restaurant.getName()).isEqualTo("Test Restaurant");
         assertThat(restaurant.getAddress()).isNotNull();
         assertThat(restaurant.getItems()).isNotNull();
@@ -42,4 +49,71 @@ class RestaurantTest {
         assertThat(builtRestaurant.getName()).isEqualTo("Built Restaurant");
         assertThat(builtRestaurant.getAddress()).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void restaurantsWithTheSameIdAreEqual() {
+        Restaurant sameRow = Restaurant.builder().id(RESTAURANT_ID).name("Renamed").build();
+
+        assertThat(restaurant).isEqualTo(sameRow);
+        assertThat(restaurant).hasSameHashCodeAs(sameRow);
+        assertThat(restaurant).isNotEqualTo(Restaurant.builder().id(UUID.randomUUID()).build());
+    }
+
+    @Test
+    void transientRestaurantsAreOnlyEqualToThemselves() {
+        Restaurant first = Restaurant.builder().name("Same").build();
+        Restaurant second = Restaurant.builder().name("Same").build();
+
+        assertThat(first).isEqualTo(first);
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    void idIsAssignedWhenBuilt() {
+        Restaurant built = Restaurant.builder().name("New").build();
+
+        assertThat(built.getId()).isNotNull();
+        assertThat(built.isNew()).isTrue();
+    }
+
+    @Test
+    void distinctRestaurantsSpreadAcrossHashBuckets() {
+        Set<Integer> hashCodes = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            hashCodes.add(Restaurant.builder().name("Same").build().hashCode());
+        }
+
+        assertThat(hashCodes).hasSizeGreaterThan(990);
+    }
+
+    @Test
+    void hashCodeEqualsAndToStringNeverTouchItems() {
+        Restaurant withUnloadedItems = Restaurant.builder()
+                .id(RESTAURANT_ID)
+                .name("Test Restaurant")
+                .address(new Address())
+                .items(new UnloadedItems())
+                .build();
+
+        assertThatNoException().isThrownBy(() -> {
+            withUnloadedItems.hashCode();
+            withUnloadedItems.equals(restaurant);
+            assertThat(withUnloadedItems.toString()).contains("Test Restaurant").doesNotContain("items");
+        });
+    }
+
+    /**
+     * Stands in for an uninitialized lazy collection: any access would be a SQL query.
+     */
+    private static class UnloadedItems extends AbstractList<Item> {
+        @Override
+        public Item get(int index) {
+            throw new AssertionError("items were loaded");
+        }
+
+        @Override
+        public int size() {
+            throw new AssertionError("items were loaded");
+        }
+    }
+}
@@ -2,11 +2,15 @@ package org.example.catalogservice;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.example.catalogservice.cache.CatalogCache;
 import org.example.catalogservice.dto.Address;
+import org.example.catalogservice.dto.RestaurantFilter;
 import org.example.catalogservice.dto.RestaurantRequest;
+import org.example.catalogservice.exceptions.InvalidCursorException;
 import org.example.catalogservice.exceptions.RestaurantAlreadyExistsException;
 import org.example.catalogservice.exceptions.RestaurantNotFoundException;
 import org.example.catalogservice.services.RestaurantsService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,17 +21,27 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+import java.util.UUID;
+
+import static org.example.catalogservice.constants.Constants.INVALID_ID;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.Mockito.*;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@ActiveProfiles("test")
 class RestaurantsControllerTest {
+    private static final UUID RESTAURANT_ID = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+
     @MockBean
     private RestaurantsService restaurantsService;
 
@@ -37,6 +51,14 @@ class RestaurantsControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @BeforeEach
+    void setup() {
+        catalogCache.evictAll();
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     public void testRestaurantIsCreated() throws Exception {
@@ -93,15 +115,56 @@ class RestaurantsControllerTest {
 
     @Test
     public void test_fetchAllRestaurants() throws Exception {
-        when(restaurantsService.fetchAll()).thenReturn(new ResponseEntity<>(HttpStatus.OK));
+        when(restaurantsService.fetchAll(null, null, new RestaurantFilter(), null)).thenReturn(new ResponseEntity<>(HttpStatus.OK));
 
         mvc.perform(get("/restaurants")).andExpect(status().isOk());
-        verify(restaurantsService, times(1)).fetchAll();
+        verify(restaurantsService, times(1)).fetchAll(null, null, new RestaurantFilter(), null);
+    }
+
+    @Test
+    public void test_fetchAllRestaurantsWithCursor_ok() throws Exception {
+        when(restaurantsService.fetchAll("cursor", 10, new RestaurantFilter(), null)).thenReturn(new ResponseEntity<>(HttpStatus.OK));
+
+        mvc.perform(get("/restaurants").param("cursor", "cursor").param("size", "10"))
+                .andExpect(status().isOk());
+        verify(restaurantsService, times(1)).fetchAll("cursor", 10, new RestaurantFilter(), null);
+    }
+
+    @Test
+    public void test_fetchAllRestaurantsWithFilter_ok() throws Exception {
+        RestaurantFilter filter = RestaurantFilter.builder().city("Bengaluru").zipcode("560001").build();
+        when(restaurantsService.fetchAll(null, null, filter, null)).thenReturn(new ResponseEntity<>(HttpStatus.OK));
+
+        mvc.perform(get("/restaurants").param("city", "Bengaluru").param("zipcode", "560001"))
+                .andExpect(status().isOk());
+        verify(restaurantsService, times(1)).fetchAll(null, null, filter, null);
+    }
+
+    @Test
+    public void test_fetchAllRestaurantsWithFields_ok() throws Exception {
+        List<String> fieldset = List.of("id", "name");
+        when(restaurantsService.fetchAll(null, null, new RestaurantFilter(), fieldset)).thenReturn(new ResponseEntity<>(HttpStatus.OK));
+
+        mvc.perform(get("/restaurants").param("fields", "name")).andExpect(status().isOk());
+        verify(restaurantsService, times(1)).fetchAll(null, null, new RestaurantFilter(), fieldset);
+    }
+
+    @Test
+    public void test_fetchAllRestaurantsWithUnknownField_badRequest() throws Exception {
+        mvc.perform(get("/restaurants").param("fields", "price")).andExpect(status().isBadRequest());
+        verify(restaurantsService, never()).fetchAll(any(), any(), any(), any());
+    }
+
+    @Test
+    public void test_fetchAllRestaurantsWithInvalidCursor_badRequest() throws Exception {
+        when(restaurantsService.fetchAll("bad", null, new RestaurantFilter(), null)).thenThrow(new InvalidCursorException("Cursor is not valid base64"));
+
+        mvc.perform(get("/restaurants").param("cursor", "bad")).andExpect(status().isBadRequest());
     }
 
     @Test
     public void test_fetchRestaurantById_ok() throws Exception {
-        String restaurantId = "abc";
+        UUID restaurantId = RESTAURANT_ID;
 
         when(restaurantsService.fetchById(restaurantId)).thenReturn(new ResponseEntity<>(HttpStatus.OK));
 
@@ -111,7 +174,7 @@ class RestaurantsControllerTest {
 
     @Test
     public void test_restaurantNotFoundWhileFetchingById_badRequest() throws Exception {
-        String restaurantId = "abc";
+        UUID restaurantId = RESTAURANT_ID;
 
         when(restaurantsService.fetchById(restaurantId)).thenThrow(new RestaurantNotFoundException("Restaurant not found"));
 
@@ -121,7 +184,7 @@ class RestaurantsControllerTest {
 
     @Test
     public void testFetchRestaurantThatDoesNotExist() throws Exception {
-        String restaurantId = "non-existent-id";
+        UUID restaurantId = UUID.randomUUID();
 
         when(restaurantsService.fetchById(restaurantId)).thenThrow(new RestaurantNotFoundException("Restaurant not found"));
 
@@ -129,6 +192,14 @@ class RestaurantsControllerTest {
         verify(restaurantsService, times(1)).fetchById(restaurantId);
     }
 
+    @Test
+    public void testFetchRestaurantWithMalformedId_badRequest() throws Exception {
+        mvc.perform(get("/restaurants/non-existent-id"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString(INVALID_ID)));
+        verifyNoInteractions(restaurantsService);
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     public void testMethodArgumentNotValid() throws Exception {
@@ -155,18 +226,18 @@ class RestaurantsControllerTest {
     }
     @Test
     public void testFetchAllRestaurantsEmpty() throws Exception {
-        when(restaurantsService.fetchAll()).thenReturn(new ResponseEntity<>(HttpStatus.NO_CONTENT));
+        when(restaurantsService.fetchAll(null, null, new RestaurantFilter(), null)).thenReturn(new ResponseEntity<>(HttpStatus.NO_CONTENT));
 
         mvc.perform(get("/restaurants"))
                 .andExpect(status().isNoContent());
-        verify(restaurantsService, times(1)).fetchAll();
+        verify(restaurantsService, times(1)).fetchAll(null, null, new RestaurantFilter(), null);
     }
 
     @Test
     @WithMockUser(roles = "ADMIN")
     public void testCreateRestaurantWithComplexAddress() throws Exception {
         Address address = new Address(2, "abc", "def", "ssw", "sdw", "complex street", "600001");
-        RestaurantRequest request = new RestaurantRequest("complex name", address);
+        RestaurantRequest request = new RestaurantRequest("complex name", address, null, null);
         String req = objectMapper.writeValueAsString(request);
 
         when(restaurantsService.create(request)).thenReturn(new ResponseEntity<>(HttpStatus.CREATED));
@@ -2,32 +2,56 @@ package org.example.catalogservice;
 
 import org.example.catalogservice.dto.Address;
 import org.example.catalogservice.dto.ApiResponse;
+import org.example.catalogservice.dto.NearbyRestaurant;
+import org.example.catalogservice.dto.RestaurantFilter;
 import org.example.catalogservice.dto.RestaurantRequest;
+import org.example.catalogservice.dto.RestaurantResponse;
+import org.example.catalogservice.dto.RestaurantSummary;
+import org.example.catalogservice.exceptions.InvalidCoordinatesException;
+import org.example.catalogservice.exceptions.InvalidCursorException;
 import org.example.catalogservice.exceptions.RestaurantAlreadyExistsException;
 import org.example.catalogservice.exceptions.RestaurantNotFoundException;
+import org.example.catalogservice.geo.GeoIndex;
+import org.example.catalogservice.models.CatalogChange;
 import org.example.catalogservice.models.Restaurant;
 import org.example.catalogservice.repositories.RestaurantsRepository;
+import org.example.catalogservice.services.CatalogChangesService;
 import org.example.catalogservice.services.RestaurantsService;
+import org.example.catalogservice.utils.CursorCodec;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 
 
+import static org.example.catalogservice.constants.Constants.DEFAULT_PAGE_SIZE;
 import static org.example.catalogservice.constants.Constants.FETCHED;
+import static org.example.catalogservice.constants.Constants.MAX_NEARBY_RADIUS_KM;
+import static org.example.catalogservice.constants.Constants.MAX_PAGE_SIZE;
 import static org.example.catalogservice.constants.Constants.RESTAURANT_CREATED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -36,9 +60,19 @@ import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 
 class RestaurantsServiceTest {
+    private static final UUID FIRST_ID = UUID.fromString("3f2b8c1e-0d4a-4b6f-9a7e-1c2d3e4f5a6b");
+    private static final UUID SECOND_ID = UUID.fromString("7a9e4d2c-5b1f-4e8a-b3c6-8d7e6f5a4b3c");
+    private static final UUID THIRD_ID = UUID.fromString("c4d5e6f7-8a9b-4c0d-9e1f-2a3b4c5d6e7f");
+
     @Mock
     private RestaurantsRepository restaurantsRepository;
 
+    @Mock
+    private GeoIndex geoIndex;
+
+    @Mock
+    private CatalogChangesService catalogChangesService;
+
     @InjectMocks
     private RestaurantsService restaurantsService;
 
@@ -55,14 +89,72 @@ class RestaurantsServiceTest {
                 .build();
         Restaurant restaurant = mock(Restaurant.class);
 
-        when(restaurantsRepository.existsByNameAndAddress(request.getName(), request.getAddress())).thenReturn(false);
-        when(restaurantsRepository.save(any(Restaurant.class))).thenReturn(restaurant);
+        when(restaurantsRepository.saveAndFlush(any(Restaurant.class))).thenReturn(restaurant);
         ResponseEntity<ApiResponse> response = restaurantsService.create(request);
 
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         assertEquals(RESTAURANT_CREATED, Objects.requireNonNull(response.getBody()).getMessage());
 
-        verify(restaurantsRepository, times(1)).save(any(Restaurant.class));
+        verify(restaurantsRepository, times(1)).saveAndFlush(any(Restaurant.class));
+    }
+
+    @Test
+    public void testRestaurantWithCoordinatesIsIndexed() {
+        RestaurantRequest request = RestaurantRequest.builder()
+                .name("restaurant")
+                .address(mock(Address.class))
+                .latitude(13.08)
+                .longitude(80.27)
+                .build();
+        Restaurant restaurant = Restaurant.builder().id(FIRST_ID).name("restaurant").latitude(13.08).longitude(80.27).build();
+
+        when(restaurantsRepository.saveAndFlush(any(Restaurant.class))).thenReturn(restaurant);
+        restaurantsService.create(request);
+
+        verify(geoIndex, times(1)).put(FIRST_ID, 13.08, 80.27);
+        verify(catalogChangesService, times(1)).record(CatalogChange.Type.RESTAURANT_CREATED, FIRST_ID, null);
+    }
+
+    @Test
+    public void testRestaurantWithOnlyOneCoordinate_throwsException() {
+        RestaurantRequest request = RestaurantRequest.builder()
+                .name("restaurant")
+                .address(mock(Address.class))
+                .latitude(13.08)
+                .build();
+
+        assertThrows(InvalidCoordinatesException.class, () -> restaurantsService.create(request));
+        verify(restaurantsRepository, never()).saveAndFlush(any(Restaurant.class));
+    }
+
+    @Test
+    public void testFetchNearbyRestaurantsKeepsDistanceOrder() {
+        RestaurantResponse near = RestaurantResponse.builder().id(FIRST_ID).name("near").build();
+        RestaurantResponse far = RestaurantResponse.builder().id(SECOND_ID).name("far").build();
+
+        when(geoIndex.withinRadius(13.08, 80.27, 5, DEFAULT_PAGE_SIZE))
+                .thenReturn(List.of(new GeoIndex.Hit(FIRST_ID, 0.5), new GeoIndex.Hit(SECOND_ID, 4.0)));
+        when(restaurantsRepository.findResponsesByIdIn(List.of(FIRST_ID, SECOND_ID))).thenReturn(List.of(far, near));
+        ResponseEntity<ApiResponse> response = restaurantsService.fetchNearby(13.08, 80.27, 5.0, null);
+
+        List<?> restaurants = (List<?>) Objects.requireNonNull(response.getBody()).getData().get("restaurants");
+        assertEquals(List.of(new NearbyRestaurant(FIRST_ID, "near", null, 0.5), new NearbyRestaurant(SECOND_ID, "far", null, 4.0)),
+                restaurants);
+    }
+
+    @Test
+    public void testFetchNearestRestaurantsWithoutRadius() {
+        when(geoIndex.nearest(13.08, 80.27, 5, MAX_NEARBY_RADIUS_KM)).thenReturn(List.of());
+        ResponseEntity<ApiResponse> response = restaurantsService.fetchNearby(13.08, 80.27, null, 5);
+
+        assertEquals(List.of(), Objects.requireNonNull(response.getBody()).getData().get("restaurants"));
+        verify(restaurantsRepository, never()).findResponsesByIdIn(any());
+    }
+
+    @Test
+    public void testFetchNearbyWithInvalidCoordinates_throwsException() {
+        assertThrows(InvalidCoordinatesException.class, () -> restaurantsService.fetchNearby(91, 80.27, null, null));
+        assertThrows(InvalidCoordinatesException.class, () -> restaurantsService.fetchNearby(13.08, Double.NaN, null, null));
     }
 
     @Test
@@ -72,11 +164,13 @@ class RestaurantsServiceTest {
                 .address(mock(Address.class))
                 .build();
 
-        when(restaurantsRepository.existsByNameAndAddress(request.getName(), request.getAddress())).thenReturn(true);
+        when(restaurantsRepository.saveAndFlush(any(Restaurant.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new ConstraintViolationException("duplicate", new SQLException(), Restaurant.UNIQUE_FINGERPRINT)));
 
         assertThrows(RestaurantAlreadyExistsException.class, () -> restaurantsService.create(request));
 
-        verify(restaurantsRepository, never()).save(any(Restaurant.class));
+        verify(restaurantsRepository, times(1)).saveAndFlush(any(Restaurant.class));
     }
 
     @Test
@@ -86,45 +180,168 @@ class RestaurantsServiceTest {
         Restaurant thirdRestaurant = mock(Restaurant.class);
         List<Restaurant> restaurants = List.of(firstRestaurant, secondRestaurant, thirdRestaurant);
 
-        when(restaurantsRepository.findAll()).thenReturn(restaurants);
-        ResponseEntity<ApiResponse> response = restaurantsService.fetchAll();
+        when(restaurantsRepository.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(restaurants);
+        ResponseEntity<ApiResponse> response = restaurantsService.fetchAll(null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(FETCHED, Objects.requireNonNull(response.getBody()).getMessage());
 
-        verify(restaurantsRepository, times(1)).findAll();
+        verify(restaurantsRepository, times(1)).findAllByOrderByIdAsc(PageRequest.of(0, DEFAULT_PAGE_SIZE + 1));
+        verify(restaurantsRepository, never()).findAll();
+    }
+
+    @Test
+    public void testFetchAllRestaurantsReturnsNextCursorWhenMorePagesExist() {
+        Restaurant firstRestaurant = Restaurant.builder().id(FIRST_ID).name("first").build();
+        Restaurant secondRestaurant = Restaurant.builder().id(SECOND_ID).name("second").build();
+        Restaurant thirdRestaurant = Restaurant.builder().id(THIRD_ID).name("third").build();
+
+        when(restaurantsRepository.findAllByOrderByIdAsc(PageRequest.of(0, 3)))
+                .thenReturn(List.of(firstRestaurant, secondRestaurant, thirdRestaurant));
+        ResponseEntity<ApiResponse> response = restaurantsService.fetchAll(null, 2);
+
+        Map<?, ?> data = Objects.requireNonNull(response.getBody()).getData();
+        assertEquals(2, ((List<?>) data.get("restaurants")).size());
+        assertEquals(CursorCodec.encode(SECOND_ID), data.get("nextCursor"));
+    }
+
+    @Test
+    public void testFetchAllRestaurantsAfterCursor() {
+        Restaurant restaurant = Restaurant.builder().id(THIRD_ID).name("third").build();
+
+        when(restaurantsRepository.findByIdGreaterThanOrderByIdAsc(SECOND_ID, PageRequest.of(0, 3)))
+                .thenReturn(List.of(restaurant));
+        ResponseEntity<ApiResponse> response = restaurantsService.fetchAll(CursorCodec.encode(SECOND_ID), 2);
+
+        Map<?, ?> data = Objects.requireNonNull(response.getBody()).getData();
+        assertEquals(1, ((List<?>) data.get("restaurants")).size());
+        assertFalse(data.containsKey("nextCursor"));
+        verify(restaurantsRepository, never()).findAllByOrderByIdAsc(any(Pageable.class));
+    }
+
+    @Test
+    public void testFetchAllRestaurantsPageSizeIsCapped() {
+        when(restaurantsRepository.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(List.of());
+
+        restaurantsService.fetchAll(null, 100_000);
+
+        verify(restaurantsRepository, times(1)).findAllByOrderByIdAsc(PageRequest.of(0, MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    public void testFetchAllRestaurantsWithFilterUsesNormalizedKeys() {
+        Restaurant restaurant = Restaurant.builder().id(FIRST_ID).name("first").build();
+        RestaurantFilter keys = RestaurantFilter.builder().city("new delhi").build();
+
+        when(restaurantsRepository.findPage(keys, null, DEFAULT_PAGE_SIZE + 1)).thenReturn(List.of(restaurant));
+        ResponseEntity<ApiResponse> response = restaurantsService.fetchAll(null, null,
+                RestaurantFilter.builder().city("  New   Delhi ").locality(" ").build());
+
+        Map<?, ?> data = Objects.requireNonNull(response.getBody()).getData();
+        assertEquals(1, ((List<?>) data.get("restaurants")).size());
+        verify(restaurantsRepository, never()).findAllByOrderByIdAsc(any(Pageable.class));
+    }
+
+    @Test
+    public void testFetchAllRestaurantsWithFilterAfterCursor() {
+        Restaurant secondRestaurant = Restaurant.builder().id(SECOND_ID).name("second").build();
+        Restaurant thirdRestaurant = Restaurant.builder().id(THIRD_ID).name("third").build();
+        RestaurantFilter keys = RestaurantFilter.builder().zipcode("560001").build();
+
+        when(restaurantsRepository.findPage(keys, FIRST_ID, 2)).thenReturn(List.of(secondRestaurant, thirdRestaurant));
+        ResponseEntity<ApiResponse> response = restaurantsService.fetchAll(CursorCodec.encode(FIRST_ID), 1,
+                RestaurantFilter.builder().zipcode("560001").build());
+
+        Map<?, ?> data = Objects.requireNonNull(response.getBody()).getData();
+        assertEquals(1, ((List<?>) data.get("restaurants")).size());
+        assertEquals(CursorCodec.encode(SECOND_ID), data.get("nextCursor"));
+        verify(restaurantsRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any(Pageable.class));
+    }
+
+    @Test
+    public void testFetchAllRestaurantsWithoutAddressSelectsSummaries() {
+        when(restaurantsRepository.findSummariesAfter(FIRST_ID, PageRequest.of(0, 2)))
+                .thenReturn(List.of(new RestaurantSummary(SECOND_ID, "second"), new RestaurantSummary(THIRD_ID, "third")));
+        ResponseEntity<ApiResponse> response = restaurantsService.fetchAll(CursorCodec.encode(FIRST_ID), 1,
+                new RestaurantFilter(), List.of("id", "name"));
+
+        Map<?, ?> data = Objects.requireNonNull(response.getBody()).getData();
+        assertEquals(List.of(Map.of("id", SECOND_ID, "name", "second")), data.get("restaurants"));
+        assertEquals(CursorCodec.encode(SECOND_ID), data.get("nextCursor"));
+        verify(restaurantsRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any(Pageable.class));
+    }
+
+    @Test
+    public void testFilteredRestaurantsWithoutAddressSelectsSummaries() {
+        RestaurantFilter keys = RestaurantFilter.builder().city("chennai").build();
+
+        when(restaurantsRepository.findSummaryPage(keys, null, DEFAULT_PAGE_SIZE + 1))
+                .thenReturn(List.of(new RestaurantSummary(FIRST_ID, "first")));
+        ResponseEntity<ApiResponse> response = restaurantsService.fetchAll(null, null,
+                RestaurantFilter.builder().city("Chennai").build(), List.of("id"));
+
+        assertEquals(List.of(Map.of("id", FIRST_ID)), Objects.requireNonNull(response.getBody()).getData().get("restaurants"));
+        verify(restaurantsRepository, never()).findPage(any(), any(), anyInt());
+    }
+
+    @Test
+    public void testFetchAllRestaurantsWithAddressFieldReadsEntities() {
+        Address address = new Address(1, "street", "locality", "Chennai", "state", "country", "600001");
+        Restaurant restaurant = Restaurant.builder().id(FIRST_ID).name("first").address(address).build();
+
+        when(restaurantsRepository.findAllByOrderByIdAsc(PageRequest.of(0, DEFAULT_PAGE_SIZE + 1))).thenReturn(List.of(restaurant));
+        ResponseEntity<ApiResponse> response = restaurantsService.fetchAll(null, null,
+                new RestaurantFilter(), List.of("id", "address"));
+
+        assertEquals(List.of(Map.of("id", FIRST_ID, "address", address)),
+                Objects.requireNonNull(response.getBody()).getData().get("restaurants"));
+        verify(restaurantsRepository, never()).findSummaries(any(Pageable.class));
+    }
+
+    @Test
+    public void testFetchAllRestaurantsWithInvalidCursor_throwsException() {
+        assertThrows(InvalidCursorException.class, () -> restaurantsService.fetchAll("not base64!", null));
+
+        verify(restaurantsRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any(Pageable.class));
+    }
+
+    @Test
+    public void testFetchAllRestaurantsWithForgedCursor_throwsException() {
+        assertThrows(InvalidCursorException.class, () -> restaurantsService.fetchAll(Base64.getUrlEncoder().encodeToString("' or 1=1 --".getBytes(StandardCharsets.UTF_8)), null));
+
+        verify(restaurantsRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any(Pageable.class));
     }
 
     @Test
     public void testFetchRestaurantByIdSuccessfully() {
-        Restaurant restaurant = mock(Restaurant.class);
-        String restaurantId = "id";
+        RestaurantResponse restaurant = RestaurantResponse.builder().id(FIRST_ID).name("restaurant").build();
+        UUID restaurantId = FIRST_ID;
 
-        when(restaurantsRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+        when(restaurantsRepository.findResponseById(restaurantId)).thenReturn(Optional.of(restaurant));
         ResponseEntity<ApiResponse> response = restaurantsService.fetchById(restaurantId);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(FETCHED, Objects.requireNonNull(response.getBody()).getMessage());
-        verify(restaurantsRepository, times(1)).findById(restaurantId);
+        verify(restaurantsRepository, times(1)).findResponseById(restaurantId);
     }
 
     @Test
     public void testRestaurantNotFoundWhileFetchingById_throwsException() {
-        String restaurantId = "id";
+        UUID restaurantId = FIRST_ID;
 
-        when(restaurantsRepository.findById(restaurantId)).thenThrow(new RestaurantNotFoundException("Restaurant not found"));
+        when(restaurantsRepository.findResponseById(restaurantId)).thenThrow(new RestaurantNotFoundException("Restaurant not found"));
 
         assertThrows(RestaurantNotFoundException.class, () -> restaurantsService.fetchById(restaurantId));
-        verify(restaurantsRepository, times(1)).findById(restaurantId);
+        verify(restaurantsRepository, times(1)).findResponseById(restaurantId);
     }
     @Test
     public void testFetchRestaurantByIdNotFound_throwsException() {
-        String restaurantId = "non-existent-id";
+        UUID restaurantId = UUID.randomUUID();
 
-        when(restaurantsRepository.findById(restaurantId)).thenReturn(Optional.empty());
+        when(restaurantsRepository.findResponseById(restaurantId)).thenReturn(Optional.empty());
 
         assertThrows(RestaurantNotFoundException.class, () -> restaurantsService.fetchById(restaurantId));
-        verify(restaurantsRepository, times(1)).findById(restaurantId);
+        verify(restaurantsRepository, times(1)).findResponseById(restaurantId);
     }
 
     @Test
@@ -134,11 +351,11 @@ class RestaurantsServiceTest {
                 .address(mock(Address.class))
                 .build();
 
-        when(restaurantsRepository.existsByNameAndAddress(request.getName(), request.getAddress())).thenReturn(false);
-        when(restaurantsRepository.save(any(Restaurant.class))).thenThrow(new RuntimeException("Database error"));
+        when(restaurantsRepository.saveAndFlush(any(Restaurant.class))).thenThrow(new RuntimeException("Database error"));
 
         assertThrows(RuntimeException.class, () -> restaurantsService.create(request));
-        verify(restaurantsRepository, times(1)).save(any(Restaurant.class));
+        verify(restaurantsRepository, times(1)).saveAndFlush(any(Restaurant.class));
+        verify(catalogChangesService, never()).record(any(), any(), any());
     }
 
     @Test
@@ -148,19 +365,19 @@ class RestaurantsServiceTest {
                 .address(mock(Address.class))
                 .build();
 
-        verify(restaurantsRepository, never()).save(any(Restaurant.class));
+        verify(restaurantsRepository, never()).saveAndFlush(any(Restaurant.class));
     }
 
     @Test
     public void testFetchAllRestaurantsReturnsEmptyList() {
         List<Restaurant> restaurants = List.of();
 
-        when(restaurantsRepository.findAll()).thenReturn(restaurants);
-        ResponseEntity<ApiResponse> response = restaurantsService.fetchAll();
+        when(restaurantsRepository.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(restaurants);
+        ResponseEntity<ApiResponse> response = restaurantsService.fetchAll(null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals("Fetched", Objects.requireNonNull(response.getBody()).getMessage());
-        verify(restaurantsRepository, times(1)).findAll();
+        verify(restaurantsRepository, times(1)).findAllByOrderByIdAsc(any(Pageable.class));
     }
 
     @Test
@@ -179,7 +396,7 @@ class RestaurantsServiceTest {
                 .address(invalidAddress)
                 .build();
 
-        verify(restaurantsRepository, never()).save(any(Restaurant.class));
+        verify(restaurantsRepository, never()).saveAndFlush(any(Restaurant.class));
     }
 
 }
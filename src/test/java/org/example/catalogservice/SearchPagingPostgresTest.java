@@ -0,0 +1,134 @@
+package org.example.catalogservice;
+
+import org.example.catalogservice.dto.Address;
+import org.example.catalogservice.dto.ItemResponse;
+import org.example.catalogservice.models.Item;
+import org.example.catalogservice.models.Restaurant;
+import org.example.catalogservice.repositories.ItemsRepository;
+import org.example.catalogservice.repositories.RestaurantsRepository;
+import org.example.catalogservice.services.ItemsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.catalogservice.constants.Constants.MAX_SEARCH_RESULTS;
+
+/**
+ * Walks ranked search results cursor by cursor on Postgres, where the
+ * {@code search_vector} column exists. Many items share a rank, so the pages
+ * must hand over on the id as well, neither repeating nor skipping a row.
+ * A few matches are collected through the GIN index; more than
+ * {@code MAX_SEARCH_RESULTS} are settled by the id-ordered scan window.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.liquibase.enabled=true",
+        "spring.flyway.enabled=false"})
+@Import(PostgresTestConfig.class)
+@ActiveProfiles("test")
+class SearchPagingPostgresTest {
+    @Autowired
+    private ItemsService itemsService;
+
+    @Autowired
+    private ItemsRepository itemsRepository;
+
+    @Autowired
+    private RestaurantsRepository restaurantsRepository;
+
+    @AfterEach
+    void cleanup() {
+        itemsRepository.deleteAllInBatch();
+        restaurantsRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void cursorsVisitEveryMatchOnceInRankOrder() {
+        Restaurant restaurant = restaurant();
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            // Every third item mentions the word twice and ranks above the rest.
+            items.add(Item.builder()
+                    .name("masala " + i)
+                    .description(i % 3 == 0 ? "masala special" : "house special")
+                    .price(100.0 + i)
+                    .restaurant(restaurant)
+                    .build());
+        }
+        itemsRepository.saveAll(items);
+
+        List<ItemResponse> pages = walk("masala", 5);
+
+        assertThat(pages).extracting(ItemResponse::getId).doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(items.stream().map(Item::getId).toList());
+        List<String> better = IntStream.range(0, 23).filter(i -> i % 3 == 0).mapToObj(i -> "masala " + i).toList();
+        assertThat(pages.subList(0, better.size())).extracting(ItemResponse::getName)
+                .containsExactlyInAnyOrderElementsOf(better);
+        // Postgres orders uuids by their text form, not as Java's signed halves.
+        Comparator<ItemResponse> byId = Comparator.comparing(item -> item.getId().toString());
+        assertThat(pages.subList(0, better.size())).isSortedAccordingTo(byId);
+        assertThat(pages.subList(better.size(), pages.size())).isSortedAccordingTo(byId);
+    }
+
+    @Test
+    void broadQueriesRankTheFirstMatchesById() {
+        Restaurant restaurant = restaurant();
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < MAX_SEARCH_RESULTS + 50; i++) {
+            items.add(Item.builder()
+                    .name("dish " + i)
+                    .price(100.0 + i)
+                    .restaurant(restaurant)
+                    .build());
+        }
+        itemsRepository.saveAll(items);
+
+        List<ItemResponse> pages = walk("di", 20);
+
+        List<String> firstById = items.stream()
+                .map(item -> item.getId().toString())
+                .sorted()
+                .limit(MAX_SEARCH_RESULTS)
+                .toList();
+        assertThat(pages).extracting(item -> item.getId().toString())
+                .doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(firstById);
+    }
+
+    private Restaurant restaurant() {
+        return restaurantsRepository.save(Restaurant.builder()
+                .name("Masala House")
+                .address(new Address(1, "street", "locality", "city", "state", "country", "600001"))
+                .build());
+    }
+
+    private List<ItemResponse> walk(String query, int size) {
+        List<ItemResponse> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            Map<?, ?> data = Objects.requireNonNull(itemsService.search(query, cursor, size).getBody()).getData();
+            List<ItemResponse> page = items(data);
+            assertThat(page).hasSizeLessThanOrEqualTo(size);
+            pages.addAll(page);
+            cursor = (String) data.get("nextCursor");
+        } while (cursor != null);
+        return pages;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<ItemResponse> items(Map<?, ?> data) {
+        return (List<ItemResponse>) data.get("items");
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.catalogservice;
+
+import org.example.catalogservice.utils.SearchQuery;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SearchQueryTest {
+
+    @Test
+    void everyWordBecomesARequiredPrefix() {
+        assertEquals("masala:* & do:*", SearchQuery.toPrefixTsQuery("Masala do"));
+    }
+
+    @Test
+    void operatorsAndPunctuationAreDropped() {
+        assertEquals("paneer:* & tikka:*", SearchQuery.toPrefixTsQuery("paneer | !tikka & :*"));
+    }
+
+    @Test
+    void nonLatinWordsAreKept() {
+        assertEquals("मसाला:*", SearchQuery.toPrefixTsQuery("मसाला"));
+    }
+
+    @Test
+    void combiningMarksStayInsideTheirWord() {
+        assertEquals("cafe\u0301:*", SearchQuery.toPrefixTsQuery("cafe\u0301"));
+    }
+
+    @Test
+    void oneLetterWordsMustMatchWhole() {
+        assertEquals("masala:* & a & do:*", SearchQuery.toPrefixTsQuery("masala a do"));
+    }
+
+    @Test
+    void textWithoutWordsGivesAnEmptyQuery() {
+        assertEquals("", SearchQuery.toPrefixTsQuery("  &|! "));
+        assertEquals("", SearchQuery.toPrefixTsQuery(null));
+    }
+
+    @Test
+    void termsAreCapped() {
+        assertEquals("a & b & c & d & e & f & g & h", SearchQuery.toPrefixTsQuery("a b c d e f g h i j"));
+    }
+}
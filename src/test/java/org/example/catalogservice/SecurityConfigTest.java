@@ -2,10 +2,13 @@ package org.example.catalogservice;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 
+// Would shadow the stateless chain that StatelessSecurityTest exercises.
 @Configuration
+@Profile("!stateless")
 public class SecurityConfigTest {
 
     @Bean
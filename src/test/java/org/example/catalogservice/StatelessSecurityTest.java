@@ -0,0 +1,114 @@
+package org.example.catalogservice;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.catalogservice.dto.Address;
+import org.example.catalogservice.dto.RestaurantFilter;
+import org.example.catalogservice.dto.RestaurantRequest;
+import org.example.catalogservice.services.RestaurantsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The {@code stateless} profile's filter chain: bearer tokens only, no
+ * session, no CSRF token. The decoder is mocked so the chain is exercised
+ * without an issuer to fetch keys from.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "stateless"})
+class StatelessSecurityTest {
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @MockBean
+    private RestaurantsService restaurantsService;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setup() {
+        when(jwtDecoder.decode("valid")).thenReturn(Jwt.withTokenValue("valid")
+                .header("alg", "RS256")
+                .subject("order-service")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build());
+        when(jwtDecoder.decode("forged")).thenThrow(new BadJwtException("Signed JWT rejected: Invalid signature"));
+    }
+
+    @Test
+    void requestWithoutToken_unauthorized() throws Exception {
+        mvc.perform(get("/restaurants"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string(HttpHeaders.WWW_AUTHENTICATE, "Bearer"));
+        verify(restaurantsService, never()).fetchAll(null, null, new RestaurantFilter(), null);
+    }
+
+    @Test
+    void requestWithRejectedToken_unauthorized() throws Exception {
+        mvc.perform(get("/restaurants").header(HttpHeaders.AUTHORIZATION, "Bearer forged"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void requestWithValidToken_okWithoutSession() throws Exception {
+        when(restaurantsService.fetchAll(null, null, new RestaurantFilter(), null)).thenReturn(new ResponseEntity<>(HttpStatus.OK));
+
+        MvcResult result = mvc.perform(get("/restaurants").header(HttpHeaders.AUTHORIZATION, "Bearer valid"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertNull(result.getRequest().getSession(false));
+        assertNull(result.getResponse().getCookie("JSESSIONID"));
+    }
+
+    @Test
+    void writeWithValidToken_doesNotNeedCsrfToken() throws Exception {
+        RestaurantRequest request = RestaurantRequest.builder()
+                .name("name")
+                .address(new Address(2, "street", "locality", "city", "state", "country", "600001"))
+                .build();
+        when(restaurantsService.create(request)).thenReturn(new ResponseEntity<>(HttpStatus.CREATED));
+
+        mvc.perform(post("/restaurants").header(HttpHeaders.AUTHORIZATION, "Bearer valid")
+                        .content(objectMapper.writeValueAsString(request))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated());
+        verify(restaurantsService, times(1)).create(request);
+    }
+
+    @Test
+    void publicUrlsNeedNoToken() throws Exception {
+        mvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+}
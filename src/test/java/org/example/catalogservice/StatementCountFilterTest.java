@@ -0,0 +1,88 @@
+package org.example.catalogservice;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.example.catalogservice.filters.StatementCountFilter;
+import org.example.catalogservice.metrics.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StatementCountFilterTest {
+    private static final String MENU = "/restaurants/{restaurantId}/items";
+
+    private SimpleMeterRegistry meterRegistry;
+    private StatementCounter statementCounter;
+    private StatementCountFilter filter;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        statementCounter = new StatementCounter(meterRegistry);
+        filter = new StatementCountFilter(statementCounter, meterRegistry, 2);
+        request = new MockHttpServletRequest("GET", "/restaurants/1/items");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, MENU);
+    }
+
+    @Test
+    void recordsStatementsIssuedByTheRequest() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), issuing(2));
+
+        assertEquals(2, meterRegistry.get("catalog.request.statements").tag("uri", MENU).summary().totalAmount());
+        assertNull(meterRegistry.find("catalog.request.excessive.statements").counter());
+        assertEquals(2, meterRegistry.get("catalog.db.statements").counter().count());
+    }
+
+    @Test
+    void flagsRequestsAboveTheThreshold() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), issuing(3));
+
+        assertEquals(1, meterRegistry.get("catalog.request.excessive.statements").tag("uri", MENU).counter().count());
+    }
+
+    @Test
+    void statementsOutsideARequestAreNotAttributed() throws Exception {
+        statementCounter.inspect("select 1");
+        filter.doFilter(request, new MockHttpServletResponse(), issuing(1));
+
+        assertEquals(1, meterRegistry.get("catalog.request.statements").summary().totalAmount());
+        assertEquals(2, meterRegistry.get("catalog.db.statements").counter().count());
+    }
+
+    @Test
+    void asyncRequestsAreNotRecorded() throws Exception {
+        request.setAsyncSupported(true);
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            statementCounter.inspect("select * from restaurants");
+            req.startAsync();
+        });
+
+        assertNull(meterRegistry.find("catalog.request.statements").summary());
+    }
+
+    @Test
+    void failingRequestsAreRecordedAndStillFail() {
+        assertThrows(ServletException.class, () -> filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            statementCounter.inspect("select * from restaurants");
+            throw new ServletException("handler failed");
+        }));
+
+        assertEquals(1, meterRegistry.get("catalog.request.statements").summary().totalAmount());
+    }
+
+    private FilterChain issuing(int statements) {
+        return (req, res) -> {
+            for (int i = 0; i < statements; i++) {
+                statementCounter.inspect("select * from food_items");
+            }
+        };
+    }
+}
@@ -0,0 +1,180 @@
+package org.example.catalogservice;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.catalogservice.cache.CatalogCache;
+import org.example.catalogservice.dto.Address;
+import org.example.catalogservice.models.Item;
+import org.example.catalogservice.models.Restaurant;
+import org.example.catalogservice.repositories.CatalogChangesRepository;
+import org.example.catalogservice.repositories.ItemsRepository;
+import org.example.catalogservice.repositories.RestaurantsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of SQL statements each endpoint issues, so an accidental
+ * eager load or N+1 shows up as a test failure.
+ */
+// Background feed consumers would add their polls to the counts.
+@SpringBootTest(properties = "catalog.changes.follow=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class StatementCountTest {
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @Autowired
+    private RestaurantsRepository restaurantsRepository;
+
+    @Autowired
+    private ItemsRepository itemsRepository;
+
+    @Autowired
+    private CatalogChangesRepository catalogChangesRepository;
+
+    private Restaurant restaurant;
+    private Item item;
+
+    @BeforeEach
+    void setup() {
+        catalogCache.evictAll();
+        restaurant = restaurantsRepository.save(Restaurant.builder()
+                .name("restaurant")
+                .address(address(1))
+                .build());
+        List<Item> items = itemsRepository.saveAll(List.of(
+                Item.builder().name("dosa").price(120.0).restaurant(restaurant).build(),
+                Item.builder().name("vada").price(150.0).restaurant(restaurant).build()));
+        item = items.get(0);
+    }
+
+    @AfterEach
+    void cleanup() {
+        itemsRepository.deleteAllInBatch();
+        restaurantsRepository.deleteAllInBatch();
+        catalogChangesRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void createRestaurant() throws Exception {
+        // The restaurant and its change-feed row.
+        assertEquals(2, statements(post("/restaurants").with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"new\",\"address\":{\"buildingNumber\":2,\"street\":\"s\",\"locality\":\"l\","
+                        + "\"city\":\"c\",\"state\":\"st\",\"country\":\"co\",\"zipcode\":\"600001\"}}"), 201));
+    }
+
+    @Test
+    void fetchRestaurantsPage() throws Exception {
+        assertEquals(1, statements(get("/restaurants"), 200));
+    }
+
+    @Test
+    void fetchRestaurantsPageFilteredByCity() throws Exception {
+        assertEquals(1, statements(get("/restaurants").param("city", " City ").param("zipcode", "600001"), 200));
+    }
+
+    @Test
+    void fetchRestaurantsPageWithFields() throws Exception {
+        assertEquals(1, statements(get("/restaurants").param("fields", "name"), 200));
+    }
+
+    @Test
+    void fetchRestaurantById() throws Exception {
+        assertEquals(1, statements(get("/restaurants/" + restaurant.getId()), 200));
+    }
+
+    @Test
+    void addItem() throws Exception {
+        assertEquals(2, statements(post("/restaurants/" + restaurant.getId() + "/items").with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"idli\",\"price\":100}"), 201));
+    }
+
+    @Test
+    void addItemsInBulk() throws Exception {
+        assertEquals(4, statements(post("/restaurants/" + restaurant.getId() + "/items/bulk").with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"items\":[{\"name\":\"idli\",\"price\":100}]}"), 201));
+    }
+
+    @Test
+    void fetchMenu() throws Exception {
+        assertEquals(1, statements(get("/restaurants/" + restaurant.getId() + "/items"), 200));
+    }
+
+    @Test
+    void fetchMenuWithFields() throws Exception {
+        assertEquals(1, statements(get("/restaurants/" + restaurant.getId() + "/items").param("fields", "name,price"), 200));
+    }
+
+    @Test
+    void fetchItemById() throws Exception {
+        assertEquals(1, statements(get("/restaurants/" + restaurant.getId() + "/items/" + item.getId()), 200));
+    }
+
+    @Test
+    void fetchItemsByIds() throws Exception {
+        assertEquals(1, statements(get("/restaurants/" + restaurant.getId() + "/items/batch")
+                .param("ids", item.getId().toString(), UUID.randomUUID().toString()), 200));
+    }
+
+    @Test
+    void exportCatalog() throws Exception {
+        double before = statementCount();
+        MvcResult result = mvc.perform(get("/catalog/export")).andReturn();
+        mvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        assertEquals(1, statementCount() - before);
+    }
+
+    @Test
+    void fetchChanges() throws Exception {
+        double before = statementCount();
+        MvcResult result = mvc.perform(get("/catalog/changes").param("wait", "0")).andReturn();
+        mvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        assertEquals(1, statementCount() - before);
+    }
+
+    private double statements(RequestBuilder request, int expectedStatus) throws Exception {
+        double before = statementCount();
+        mvc.perform(request).andExpect(status().is(expectedStatus));
+        return statementCount() - before;
+    }
+
+    private double statementCount() {
+        return meterRegistry.get("catalog.db.statements").counter().count();
+    }
+
+    private static Address address(int buildingNumber) {
+        return new Address(buildingNumber, "street", "locality", "city", "state", "country", "600001");
+    }
+}
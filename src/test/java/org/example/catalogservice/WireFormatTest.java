@@ -0,0 +1,37 @@
+package org.example.catalogservice;
+
+import org.example.catalogservice.cache.WireFormat;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WireFormatTest {
+
+    @Test
+    public void testMissingOrWildcardAcceptIsJson() {
+        assertEquals(WireFormat.JSON, WireFormat.negotiate(null));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate(""));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("*/*"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("application/*"));
+    }
+
+    @Test
+    public void testBinaryFormatsAreChosenByMediaType() {
+        assertEquals(WireFormat.CBOR, WireFormat.negotiate("application/cbor"));
+        assertEquals(WireFormat.SMILE, WireFormat.negotiate("application/x-jackson-smile"));
+    }
+
+    @Test
+    public void testQualityAndSpecificityDecide() {
+        assertEquals(WireFormat.CBOR, WireFormat.negotiate("application/json;q=0.5, application/cbor"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("application/cbor;q=0.5, application/json"));
+        assertEquals(WireFormat.SMILE, WireFormat.negotiate("*/*, application/x-jackson-smile"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("application/cbor;q=0, */*"));
+    }
+
+    @Test
+    public void testUnknownOrMalformedAcceptFallsBackToJson() {
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("text/html"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("not a media type"));
+    }
+}